@@ -0,0 +1,79 @@
+package com.example.account.config;
+
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.account.type.TransactionResultType.S;
+import static com.example.account.type.TransactionType.USE;
+
+/**
+ * 거래 응답 직렬화 비용 비교 (기본 ObjectMapper vs JacksonConfiguration 적용 JSON / CBOR)
+ * 응답 구성은 잔액 사용 : 취소 : 조회 = 8 : 1 : 1
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    private Object[] responses;
+    private ObjectWriter defaultWriter;
+    private ObjectWriter accountWriter;
+    private ObjectWriter cborWriter;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        responses = new Object[10];
+        LocalDateTime transactedAt = LocalDateTime.now();
+        for (int i = 0; i < 8; i++) {
+            responses[i] = new UseBalance.Response("1000000012", S,
+                    "0f9a3cbd7a2e4d1c9b8e6f5a4d3c2b1a", 1000L + i, transactedAt.plusNanos(i * 1_000L));
+        }
+        responses[8] = new CancelBalance.Response("1000000012", S,
+                "1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d", 1000L, transactedAt);
+        responses[9] = new QueryTransactionResponse("1000000012", USE, S,
+                "0f9a3cbd7a2e4d1c9b8e6f5a4d3c2b1a", 1000L, transactedAt);
+
+        ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfiguration().accountJacksonCustomizer().customize(builder);
+        ObjectMapper accountMapper = builder.build();
+        ObjectMapper cborMapper = builder.factory(new CBORFactory()).build();
+
+        defaultWriter = defaultMapper.writer();
+        accountWriter = accountMapper.writer();
+        cborWriter = cborMapper.writer();
+    }
+
+    @Benchmark
+    public byte[] defaultMapper() throws Exception {
+        return defaultWriter.writeValueAsBytes(nextResponse());
+    }
+
+    @Benchmark
+    public byte[] accountMapper() throws Exception {
+        return accountWriter.writeValueAsBytes(nextResponse());
+    }
+
+    @Benchmark
+    public byte[] cborMapper() throws Exception {
+        return cborWriter.writeValueAsBytes(nextResponse());
+    }
+
+    private Object nextResponse() {
+        next = (next + 1) % responses.length;
+        return responses[next];
+    }
+}
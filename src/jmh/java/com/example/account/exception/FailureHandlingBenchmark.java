@@ -0,0 +1,82 @@
+package com.example.account.exception;
+
+import com.example.account.type.ErrorCode;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.example.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+
+/**
+ * 실패 90% 부하에서의 예외 처리 비용 비교
+ * 스택 트레이스를 만드는 기존 방식 + 매번 로그 vs 스택 없는 AccountException + 샘플링 로그
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureHandlingBenchmark {
+    private GlobalExceptionHandler globalExceptionHandler;
+    private int request;
+
+    @Setup
+    public void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(1000L);
+    }
+
+    @Benchmark
+    public Object stackTraceAndLogEveryFailure() {
+        try {
+            return process(() -> new StackfulAccountException(AMOUNT_EXCEED_BALANCE));
+        } catch (StackfulAccountException e) {
+            GlobalExceptionHandlerLog.log(e.errorCode);
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object stacklessAndSampledLog() {
+        try {
+            return process(() -> new AccountException(AMOUNT_EXCEED_BALANCE));
+        } catch (AccountException e) {
+            return globalExceptionHandler.handleAccountException(e);
+        }
+    }
+
+    /**
+     * 10건 중 9건 실패
+     */
+    private Object process(Supplier<RuntimeException> failure) {
+        request = (request + 1) % 10;
+        if (request != 0) {
+            throw failure.get();
+        }
+        return "success";
+    }
+
+    private static class StackfulAccountException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        private StackfulAccountException(ErrorCode errorCode) {
+            super(errorCode.getDescription());
+            this.errorCode = errorCode;
+        }
+    }
+
+    /**
+     * 샘플링 이전 GlobalExceptionHandler 와 같은 로그
+     */
+    private static class GlobalExceptionHandlerLog {
+        private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+        private static void log(ErrorCode errorCode) {
+            log.error("{} is occurred.", errorCode);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.account.service;
+
+import com.example.account.aop.AccountLock;
+import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.aop.RateLimitUserIdInterface;
+import com.example.account.dto.UseBalance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 @Around 애스펙트와 AccountLockInterceptor 의 호출 오버헤드 비교
+ * 두 방식 모두 같은 처리(요청 한도, admission control, 큐 모드 확인, lock)를 거치므로 차이는 디스패치 비용만 남는다.
+ * lock 자체(Redis) 비용을 빼기 위해 아무 일도 하지 않는 LockService 를 사용한다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountLockInterceptorBenchmark {
+    private final UseBalance.Request request = new UseBalance.Request(1L, "1000000000", 1000L);
+    private Handler aspectProxy;
+    private Handler interceptorProxy;
+
+    @Setup
+    public void setUp() {
+        LockService lockService = new NoOpLockService();
+        AccountOperationQueue accountOperationQueue = new AccountOperationQueue(null, lockService, false, 32, 4, 5000);
+        // 양쪽 모두 admission control(카운터 증감) 비용이 포함됨 (요청 한도는 기본값처럼 꺼 둠)
+        AccountAdmissionControl accountAdmissionControl =
+                new AccountAdmissionControl(new SimpleMeterRegistry(), 128, 8);
+        AccountRateLimiter accountRateLimiter = new AccountRateLimiter(null, new SimpleMeterRegistry(),
+                false, AccountRateLimiter.Store.LOCAL, 20, 40, 20, 40, 100000);
+        BalanceEngine balanceEngine = new BalanceEngine(null, null, null, null, null, null,
+                false, 4, "./data/wal", 256, 10000, 5000, 500, 67108864);
+
+        AspectJProxyFactory aspectJProxyFactory = new AspectJProxyFactory(new Handler());
+        aspectJProxyFactory.setProxyTargetClass(true);
+        aspectJProxyFactory.addAspect(new AroundLockAspect(
+                lockService, accountOperationQueue, accountAdmissionControl, accountRateLimiter));
+        aspectProxy = aspectJProxyFactory.getProxy();
+
+        ProxyFactory proxyFactory = new ProxyFactory(new Handler());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return AccountLockInterceptor.isLockMethod(method);
+            }
+        }, new AccountLockInterceptor(
+                lockService, accountOperationQueue, accountAdmissionControl, accountRateLimiter, balanceEngine)));
+        interceptorProxy = (Handler) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String aspect() {
+        return aspectProxy.useBalance(request);
+    }
+
+    @Benchmark
+    public String interceptor() {
+        return interceptorProxy.useBalance(request);
+    }
+
+    public static class Handler {
+        @AccountLock
+        public String useBalance(UseBalance.Request request) {
+            return request.getAccountNumber();
+        }
+    }
+
+    /**
+     * 기존 LockAopAspect 와 같은 포인트컷에 AccountLockInterceptor 와 같은 처리 순서
+     */
+    @Aspect
+    public static class AroundLockAspect {
+        private final LockService lockService;
+        private final AccountOperationQueue accountOperationQueue;
+        private final AccountAdmissionControl accountAdmissionControl;
+        private final AccountRateLimiter accountRateLimiter;
+
+        public AroundLockAspect(
+                LockService lockService,
+                AccountOperationQueue accountOperationQueue,
+                AccountAdmissionControl accountAdmissionControl,
+                AccountRateLimiter accountRateLimiter
+        ) {
+            this.lockService = lockService;
+            this.accountOperationQueue = accountOperationQueue;
+            this.accountAdmissionControl = accountAdmissionControl;
+            this.accountRateLimiter = accountRateLimiter;
+        }
+
+        @Around("@annotation(com.example.account.aop.AccountLock) && args(request)")
+        public Object aroundMethod(ProceedingJoinPoint pjp, AccountLockIdInterface request) throws Throwable {
+            String accountNumber = request.getAccountNumber();
+            Long userId = request instanceof RateLimitUserIdInterface userRequest ? userRequest.getUserId() : null;
+
+            accountRateLimiter.acquire(userId, accountNumber);
+            accountAdmissionControl.acquire(accountNumber);
+            try {
+                if (accountOperationQueue.isEnabled()) {
+                    throw new IllegalStateException("Queue mode is not benchmarked");
+                }
+                try {
+                    lockService.lock(accountNumber);
+                    return pjp.proceed();
+                } finally {
+                    lockService.unlock(accountNumber);
+                }
+            } finally {
+                accountAdmissionControl.release(accountNumber);
+            }
+        }
+    }
+
+    private static class NoOpLockService extends LockService {
+        private NoOpLockService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public void lock(String accountNumber) {
+        }
+
+        @Override
+        public void unlock(String accountNumber) {
+        }
+    }
+}
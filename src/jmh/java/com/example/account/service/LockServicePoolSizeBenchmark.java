@@ -0,0 +1,80 @@
+package com.example.account.service;
+
+import com.example.account.config.RedissonProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * account.redisson.connection-pool-size 에 따른 계좌 lock(lock + unlock) 처리량
+ * embedded Redis 에 32개 스레드가 서로 다른 계좌를 lock 하므로, 계좌 경합이 아니라 커넥션 풀이 병목이 되는 지점을 본다.
+ * 운영 Redis 와는 지연이 다르므로 값 자체보다 풀 크기 간의 상대 비교로 사용한다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class LockServicePoolSizeBenchmark {
+    private static final int REDIS_PORT = 6391;
+    private static final int ACCOUNTS = 10000;
+
+    @Param({"8", "24", "64"})
+    public int connectionPoolSize;
+
+    private RedisServer redisServer;
+    private RedissonClient redissonClient;
+    private LockService lockService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        // 풀 크기 외에는 application.yml 기본값
+        RedissonProperties properties = new RedissonProperties();
+        properties.setConnectionPoolSize(connectionPoolSize);
+        properties.setConnectionMinimumIdleSize(Math.min(properties.getConnectionMinimumIdleSize(), connectionPoolSize));
+
+        Config config = new Config();
+        config.setThreads(properties.getThreads());
+        config.setNettyThreads(properties.getNettyThreads());
+        config.useSingleServer()
+                .setAddress("redis://localhost:" + REDIS_PORT)
+                .setConnectionPoolSize(properties.getConnectionPoolSize())
+                .setConnectionMinimumIdleSize(properties.getConnectionMinimumIdleSize())
+                .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize())
+                .setSubscriptionConnectionMinimumIdleSize(properties.getSubscriptionConnectionMinimumIdleSize())
+                .setTimeout(properties.getTimeoutMillis());
+        redissonClient = Redisson.create(config);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // fencing token 은 DB 확인이 필요하므로 끄고 lock 호출만 측정
+        lockService = new LockService(redissonClient, properties,
+                new LockContentionTracker(meterRegistry, 60000L, 1.5, 10000),
+                new LockHoldTracker(meterRegistry, 5000L),
+                new LockFencing(redissonClient, null, false));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void lockAndUnlock() throws InterruptedException {
+        String accountNumber = String.valueOf(1000000000L + ThreadLocalRandom.current().nextInt(ACCOUNTS));
+        lockService.lock(accountNumber);
+        lockService.unlock(accountNumber);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.account.aop;
+
+import java.lang.annotation.*;
+
+/**
+ * 여러 계좌를 한 번에 lock 해야 하는 메서드에 사용
+ * 요청은 MultiAccountLockIdInterface 를 구현해야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface MultiAccountLock {
+}
@@ -0,0 +1,7 @@
+package com.example.account.aop;
+
+import java.util.Collection;
+
+public interface MultiAccountLockIdInterface {
+    Collection<String> getAccountNumbers();
+}
@@ -0,0 +1,8 @@
+package com.example.account.aop;
+
+/**
+ * lock 메서드의 요청 중 사용자별 요청 한도(AccountRateLimiter)를 적용할 요청
+ */
+public interface RateLimitUserIdInterface {
+    Long getUserId();
+}
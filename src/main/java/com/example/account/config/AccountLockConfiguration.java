@@ -0,0 +1,38 @@
+package com.example.account.config;
+
+import com.example.account.service.AccountLockInterceptor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+
+/**
+ * @AccountLock / @MultiAccountLock 메서드에 AccountLockInterceptor 를 적용하는 advisor 구성
+ * 매칭은 프록시 생성 시 메서드별로 한 번만 수행되고,
+ * interceptor(와 LockService, Redisson)는 BeanPostProcessor 등록 시점이 아닌 첫 호출 시 가져온다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AccountLockConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor accountLockAdvisor(ObjectProvider<AccountLockInterceptor> accountLockInterceptor) {
+        SingletonSupplier<AccountLockInterceptor> interceptor =
+                SingletonSupplier.of(accountLockInterceptor::getObject);
+        MethodInterceptor advice = invocation -> interceptor.obtain().invoke(invocation);
+        return new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return AccountLockInterceptor.isLockMethod(method);
+            }
+        }, advice);
+    }
+}
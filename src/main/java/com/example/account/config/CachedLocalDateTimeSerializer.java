@@ -0,0 +1,74 @@
+package com.example.account.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답의 거래 시각(LocalDateTime) 직렬화
+ * 기본 LocalDateTimeSerializer(ISO_LOCAL_DATE_TIME)와 같은 문자열을 쓰되,
+ * 초 단위까지의 "yyyy-MM-ddTHH:mm:ss" 부분을 마지막 값으로 캐시하고
+ * 나노초 부분만 스레드별 버퍼에 이어 써서 요청마다 포매터와 문자열을 만들지 않는다.
+ */
+public class CachedLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+    private static final int PREFIX_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+    private static final ThreadLocal<char[]> BUFFER =
+            ThreadLocal.withInitial(() -> new char[PREFIX_LENGTH + 10]);
+
+    private volatile CachedSecond cachedSecond = new CachedSecond(Long.MIN_VALUE, new char[0]);
+
+    public CachedLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        // 숫자 배열 형식이나 4자리가 아닌 연도는 기본 직렬화 사용
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || value.getYear() < 0 || value.getYear() > 9999) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+
+        long epochSecond = value.toEpochSecond(ZoneOffset.UTC);
+        CachedSecond cached = cachedSecond;
+        if (cached.epochSecond != epochSecond) {
+            cached = new CachedSecond(epochSecond,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value.withNano(0)).toCharArray());
+            cachedSecond = cached;
+        }
+
+        char[] buffer = BUFFER.get();
+        System.arraycopy(cached.prefix, 0, buffer, 0, PREFIX_LENGTH);
+        gen.writeString(buffer, 0, appendFraction(buffer, value.getNano()));
+    }
+
+    /**
+     * ISO_LOCAL_DATE_TIME 과 같이 0 이 아닐 때만 소수점 이하를 쓰고 끝의 0 은 생략
+     */
+    private static int appendFraction(char[] buffer, int nano) {
+        if (nano == 0) {
+            return PREFIX_LENGTH;
+        }
+        buffer[PREFIX_LENGTH] = '.';
+        int length = PREFIX_LENGTH + 10;
+        for (int i = length - 1; i > PREFIX_LENGTH; i--) {
+            buffer[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        while (buffer[length - 1] == '0') {
+            length--;
+        }
+        return length;
+    }
+
+    private record CachedSecond(long epochSecond, char[] prefix) {
+    }
+}
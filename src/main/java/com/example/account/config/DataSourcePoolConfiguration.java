@@ -0,0 +1,38 @@
+package com.example.account.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 커넥션 풀 크기 설정
+ * 풀 크기는 account.datasource.pool-size 로 지정하고, 0 이면 CPU 코어 수 * 2 + 1 로 정한다.
+ * (커넥션은 계좌 lock 을 잡은 뒤 트랜잭션 안에서만 쓰므로 동시 요청 수보다 작은 풀로 충분)
+ * 풀 대기 시간과 active/idle/pending 커넥션 수는 hikaricp.connections.* 지표로 노출된다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+public class DataSourcePoolConfiguration {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int poolSize = environment.getProperty("account.datasource.pool-size", Integer.class, 0);
+                    if (poolSize <= 0) {
+                        poolSize = Runtime.getRuntime().availableProcessors() * 2 + 1;
+                    }
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                    log.info("Connection pool {} size : {}", dataSource.getPoolName(), poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
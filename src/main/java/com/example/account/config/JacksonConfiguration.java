@@ -0,0 +1,48 @@
+package com.example.account.config;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청/응답 직렬화 구성
+ * 1. Blackbird: 게터/세터 리플렉션 호출을 LambdaMetafactory 로 만든 호출로 대체
+ *    (native image 에서는 런타임 클래스 생성이 불가하므로 기본 리플렉션 사용)
+ * 2. LocalDateTime: 초 단위 문자열을 캐시하는 CachedLocalDateTimeSerializer
+ *    (1, 2 는 기본 모듈(JavaTimeModule 등) 등록 이후에 적용되도록 postConfigurer 로 등록)
+ * 3. CBOR(application/cbor): 내부 정산 시스템용 바이너리 표현
+ *    Content-Type / Accept 협상으로 선택되며, JSON 과 같은 DTO·검증·응답 필드를 사용한다.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer accountJacksonCustomizer() {
+        return builder -> builder.postConfigurer(objectMapper -> {
+            objectMapper.registerModule(new SimpleModule("account-time")
+                    .addSerializer(LocalDateTime.class, new CachedLocalDateTimeSerializer()));
+            if (!NativeDetector.inNativeImage()) {
+                objectMapper.registerModule(new BlackbirdModule());
+            }
+        });
+    }
+
+    /**
+     * 스프링 기본 CBOR 컨버터는 스프링 부트의 Jackson 설정을 쓰지 않으므로
+     * 부트의 빌더(spring.jackson.*, 위 customizer 포함)로 만든 CBOR 컨버터로 대체한다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                jackson2ObjectMapperBuilder.factory(new CBORFactory()).build());
+    }
+}
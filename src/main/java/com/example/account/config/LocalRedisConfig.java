@@ -1,28 +1,46 @@
 package com.example.account.config;
 
-import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
 import redis.embedded.RedisServer;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로컬/테스트 환경에서만 사용하는 embedded Redis
+ * 운영 환경(local, test 프로파일이 아닌 경우)에서는 실제 Redis 를 사용하므로 생성되지 않는다.
+ * 서버는 백그라운드에서 시작하여 JPA 등 다른 빈 초기화와 병렬로 진행되고,
+ * RedissonClient 생성 시점에만 시작 완료를 기다린다.
+ * local 프로파일은 지연 초기화(lazy-initialization)를 쓰므로, 시작이 RedissonClient 생성 시점까지 밀리지 않도록 즉시 생성한다.
+ */
+@Slf4j
 @Configuration
+@Lazy(false)
+@Profile({"local", "test"})
 public class LocalRedisConfig {
-    @Value("${spring.data.redis.port}")
-    private int redisPort;
-
-    private RedisServer redisServer;
+    private final RedisServer redisServer;
+    private final CompletableFuture<Void> started;
 
-    @PostConstruct
-    public void startRedis() {
+    public LocalRedisConfig(@Value("${spring.data.redis.port}") int redisPort) {
         redisServer = new RedisServer(redisPort);
-        redisServer.start();
+        started = CompletableFuture.runAsync(redisServer::start);
+    }
+
+    public void awaitStarted() {
+        started.join();
     }
 
     @PreDestroy
     public void stopRedis() {
-        if (redisServer != null) {
-            redisServer.stop();
+        try {
+            started.join();
+        } catch (RuntimeException e) {
+            log.warn("Embedded redis did not start", e);
         }
+        redisServer.stop();
     }
 }
@@ -0,0 +1,57 @@
+package com.example.account.config;
+
+import com.example.account.dto.*;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM native image 용 런타임 힌트
+ * 엔티티, 컨트롤러 요청/응답, lock advisor 프록시는 Spring AOT 가 처리하고,
+ * 여기서는 AOT 가 추론하지 못하는 DTO(Jackson 바인딩)와 Redisson 이 리플렉션으로 생성하는 클래스,
+ * 기본 위치가 아닌 Flyway 마이그레이션 파일을 등록한다.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfiguration.AccountRuntimeHints.class)
+public class NativeHintsConfiguration {
+
+    static class AccountRuntimeHints implements RuntimeHintsRegistrar {
+        private static final String[] REDISSON_REFLECTIVE_TYPES = {
+                "org.redisson.codec.MarshallingCodec",
+                "org.redisson.client.codec.StringCodec",
+                "org.redisson.client.codec.LongCodec"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            bindingRegistrar.registerReflectionHints(hints.reflection(),
+                    AccountDto.class,
+                    AccountInfo.class,
+                    TransactionDto.class,
+                    ErrorResponse.class,
+                    CreateAccount.Request.class, CreateAccount.Response.class,
+                    DeleteAccount.Request.class, DeleteAccount.Response.class,
+                    UseBalance.Request.class, UseBalance.Response.class,
+                    CancelBalance.Request.class, CancelBalance.Response.class,
+                    TransferBalance.Request.class, TransferBalance.Response.class,
+                    QueryTransactionResponse.class,
+                    // 대량 계좌 생성 결과는 컨트롤러 반환 타입이 아니라 ObjectWriter 로 직접 쓰므로 AOT 가 찾지 못함
+                    BulkCreateAccount.Result.class);
+
+            for (String type : REDISSON_REFLECTIVE_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            // Redisson 은 시작 시 MANIFEST 에서 버전 정보를 읽는다
+            hints.resources().registerPattern("META-INF/MANIFEST.MF");
+            // Flyway 기본 힌트는 db/migration/* 만 포함하므로 공통/DB 별 하위 디렉터리(spring.flyway.locations)를 등록
+            hints.resources().registerPattern("db/migration/**");
+        }
+    }
+}
@@ -3,12 +3,18 @@ package com.example.account.config;
 
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
+import org.redisson.config.SentinelServersConfig;
+import org.redisson.config.SingleServerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(RedissonProperties.class)
 public class RedisRepositoryConfig {
     @Value("${spring.data.redis.host}")
     private String redisHost;
@@ -17,10 +23,67 @@ public class RedisRepositoryConfig {
     private int redisPort;
 
     @Bean
-    public RedissonClient redissonClient() {
+    public RedissonClient redissonClient(
+            RedissonProperties properties,
+            ObjectProvider<LocalRedisConfig> localRedisConfig
+    ) {
+        // 로컬/테스트 프로파일이면 embedded Redis 가 뜰 때까지 대기
+        localRedisConfig.ifAvailable(LocalRedisConfig::awaitStarted);
+
         Config config = new Config();
-        config.useSingleServer().setAddress("redis://" + redisHost + ":" + redisPort);
+        config.setThreads(properties.getThreads());
+        config.setNettyThreads(properties.getNettyThreads());
+        config.setLockWatchdogTimeout(properties.getLockWatchdogTimeoutMillis());
+
+        switch (properties.getMode()) {
+            case SINGLE -> configureSingleServer(config.useSingleServer(), properties);
+            case CLUSTER -> configureCluster(config.useClusterServers(), properties);
+            case SENTINEL -> configureSentinel(config.useSentinelServers(), properties);
+        }
         return Redisson.create(config);
     }
 
+    private void configureSingleServer(SingleServerConfig server, RedissonProperties properties) {
+        server.setAddress("redis://" + redisHost + ":" + redisPort)
+                .setConnectionPoolSize(properties.getConnectionPoolSize())
+                .setConnectionMinimumIdleSize(properties.getConnectionMinimumIdleSize())
+                .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize())
+                .setSubscriptionConnectionMinimumIdleSize(properties.getSubscriptionConnectionMinimumIdleSize())
+                .setIdleConnectionTimeout(properties.getIdleConnectionTimeoutMillis())
+                .setConnectTimeout(properties.getConnectTimeoutMillis())
+                .setTimeout(properties.getTimeoutMillis())
+                .setRetryAttempts(properties.getRetryAttempts())
+                .setRetryInterval(properties.getRetryIntervalMillis())
+                .setPingConnectionInterval(properties.getPingConnectionIntervalMillis());
+    }
+
+    private void configureCluster(ClusterServersConfig cluster, RedissonProperties properties) {
+        cluster.addNodeAddress(properties.getNodes().toArray(new String[0]))
+                .setMasterConnectionPoolSize(properties.getConnectionPoolSize())
+                .setMasterConnectionMinimumIdleSize(properties.getConnectionMinimumIdleSize())
+                .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize())
+                .setSubscriptionConnectionMinimumIdleSize(properties.getSubscriptionConnectionMinimumIdleSize())
+                .setIdleConnectionTimeout(properties.getIdleConnectionTimeoutMillis())
+                .setConnectTimeout(properties.getConnectTimeoutMillis())
+                .setTimeout(properties.getTimeoutMillis())
+                .setRetryAttempts(properties.getRetryAttempts())
+                .setRetryInterval(properties.getRetryIntervalMillis())
+                .setPingConnectionInterval(properties.getPingConnectionIntervalMillis());
+    }
+
+    private void configureSentinel(SentinelServersConfig sentinel, RedissonProperties properties) {
+        sentinel.setMasterName(properties.getMasterName())
+                .addSentinelAddress(properties.getNodes().toArray(new String[0]))
+                .setMasterConnectionPoolSize(properties.getConnectionPoolSize())
+                .setMasterConnectionMinimumIdleSize(properties.getConnectionMinimumIdleSize())
+                .setSubscriptionConnectionPoolSize(properties.getSubscriptionConnectionPoolSize())
+                .setSubscriptionConnectionMinimumIdleSize(properties.getSubscriptionConnectionMinimumIdleSize())
+                .setIdleConnectionTimeout(properties.getIdleConnectionTimeoutMillis())
+                .setConnectTimeout(properties.getConnectTimeoutMillis())
+                .setTimeout(properties.getTimeoutMillis())
+                .setRetryAttempts(properties.getRetryAttempts())
+                .setRetryInterval(properties.getRetryIntervalMillis())
+                .setPingConnectionInterval(properties.getPingConnectionIntervalMillis());
+    }
+
 }
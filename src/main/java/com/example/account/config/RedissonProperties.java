@@ -0,0 +1,78 @@
+package com.example.account.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redisson 클라이언트 설정 (account.redisson.*)
+ * 계좌 lock 호출에 맞게 커넥션 풀, 스레드, 타임아웃, 재시도, 토폴로지를 조정할 수 있다.
+ * 시작 시 값을 검증하여 잘못된 설정이면 애플리케이션이 뜨지 않는다.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "account.redisson")
+public class RedissonProperties {
+    public enum Mode {
+        SINGLE, CLUSTER, SENTINEL
+    }
+
+    @NotNull
+    private Mode mode = Mode.SINGLE;
+    // CLUSTER: 클러스터 노드 주소, SENTINEL: 센티널 주소 (redis://host:port)
+    private List<String> nodes = new ArrayList<>();
+    // SENTINEL 모드의 마스터 이름
+    private String masterName;
+
+    @Min(1)
+    private int connectionPoolSize = 64;
+    @Min(0)
+    private int connectionMinimumIdleSize = 24;
+    @Min(1)
+    private int subscriptionConnectionPoolSize = 50;
+    @Min(0)
+    private int subscriptionConnectionMinimumIdleSize = 1;
+    @Min(0)
+    private int idleConnectionTimeoutMillis = 10000;
+
+    @Min(0)
+    private int threads = 16;
+    @Min(0)
+    private int nettyThreads = 32;
+
+    @Min(1)
+    private int connectTimeoutMillis = 10000;
+    @Min(1)
+    private int timeoutMillis = 3000;
+    @Min(0)
+    private int retryAttempts = 3;
+    @Min(0)
+    private int retryIntervalMillis = 1500;
+    @Min(0)
+    private int pingConnectionIntervalMillis = 30000;
+    @Min(1)
+    private long lockWatchdogTimeoutMillis = 30000L;
+
+    @AssertTrue(message = "connection-minimum-idle-size must not exceed connection-pool-size")
+    public boolean isIdleSizeValid() {
+        return connectionMinimumIdleSize <= connectionPoolSize
+                && subscriptionConnectionMinimumIdleSize <= subscriptionConnectionPoolSize;
+    }
+
+    @AssertTrue(message = "CLUSTER/SENTINEL mode requires nodes, SENTINEL mode requires master-name")
+    public boolean isTopologyValid() {
+        return switch (mode) {
+            case SINGLE -> true;
+            case CLUSTER -> !nodes.isEmpty();
+            case SENTINEL -> !nodes.isEmpty() && masterName != null && !masterName.isBlank();
+        };
+    }
+}
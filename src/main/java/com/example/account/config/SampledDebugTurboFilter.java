@@ -0,0 +1,34 @@
+package com.example.account.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * debug/trace 로그 샘플링 (logback-spring.xml 의 prod 프로파일에서 사용)
+ * 출력될 debug/trace 로그를 sampleRate 건 중 1 건만 통과시킨다.
+ * isDebugEnabled() 같은 레벨 확인 호출과 레벨 때문에 어차피 버려질 로그는 세지 않는다.
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+    private final AtomicLong counter = new AtomicLong();
+    private int sampleRate = 100;
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null
+                || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || sampleRate <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.incrementAndGet() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
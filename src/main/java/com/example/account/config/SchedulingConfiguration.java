@@ -0,0 +1,13 @@
+package com.example.account.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업(거래 내역 보관 등)을 활성화하기 위한 스프링 구성 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+}
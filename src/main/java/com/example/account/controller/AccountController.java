@@ -1,22 +1,46 @@
 package com.example.account.controller;
 
 import com.example.account.dto.AccountInfo;
+import com.example.account.dto.BulkCreateAccount;
 import com.example.account.dto.CreateAccount;
 import com.example.account.dto.DeleteAccount;
+import com.example.account.service.AccountProvisioningService;
 import com.example.account.service.AccountService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.example.account.type.ErrorCode.INVALID_REQUEST;
+
 @RestController
 // 스프링에게 이 클래스가 REST API를 처리하는 컨트롤러임을 알림, 응답 본문이 자동으로 JSON 등으로 변환됨
 @RequiredArgsConstructor
 // Lombok을 사용하여 final이나 @NonNull 필드에 대한 생성자를 자동으로 생성, 의존성 주입을 위해 사용
 public class AccountController {
+    private static final int BULK_CHUNK_SIZE = 1000; // 대량 생성 시 하나의 DB 트랜잭션에서 처리할 요청 수
+
     private final AccountService accountService; // 계좌 생성과 관련된 비즈니스 로직을 처리하는 서비스 레이어에 대한 의존성 주입
+    private final AccountProvisioningService accountProvisioningService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping("/account")
     public CreateAccount.Response createAccount(
@@ -33,6 +57,89 @@ public class AccountController {
         );
     }
 
+    /**
+     * 대량 계좌 생성
+     * NDJSON 요청을 한 줄씩 읽어 BULK_CHUNK_SIZE 개씩 처리하고, 결과를 줄마다 바로 NDJSON 으로 내보낸다.
+     * 해석이나 검증에 실패한 줄은 바로, 나머지는 묶음 처리 후 기록하므로 결과 순서는 요청 순서와 다를 수 있다(line 으로 구분).
+     */
+    @PostMapping(value = "/account/bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createAccounts(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        // 결과마다 응답 스트림이 닫히지 않도록 함
+        ObjectWriter resultWriter = objectMapper.writerFor(BulkCreateAccount.Result.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OutputStream out = response.getOutputStream();
+
+        ObjectReader requestReader = objectMapper.readerFor(CreateAccount.Request.class);
+        List<CreateAccount.Request> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(BULK_CHUNK_SIZE);
+        long line = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                // 해석할 수 없는 줄도 그 줄만 실패로 응답 (앞서 처리한 묶음의 결과는 이미 응답됨)
+                CreateAccount.Request request;
+                try {
+                    request = requestReader.readValue(text);
+                } catch (JsonProcessingException e) {
+                    writeResult(out, resultWriter, invalidResult(line, null));
+                    continue;
+                }
+                if (!validator.validate(request).isEmpty()) {
+                    writeResult(out, resultWriter, invalidResult(line, request.getUserId()));
+                    continue;
+                }
+                chunk.add(request);
+                chunkLines.add(line);
+                if (chunk.size() == BULK_CHUNK_SIZE) {
+                    createChunk(out, resultWriter, chunk, chunkLines);
+                }
+            }
+        }
+        createChunk(out, resultWriter, chunk, chunkLines);
+        out.flush();
+    }
+
+    private static BulkCreateAccount.Result invalidResult(long line, Long userId) {
+        BulkCreateAccount.Result result = BulkCreateAccount.Result.failure(userId, INVALID_REQUEST);
+        result.setLine(line);
+        return result;
+    }
+
+    private void createChunk(
+            OutputStream out,
+            ObjectWriter resultWriter,
+            List<CreateAccount.Request> chunk,
+            List<Long> chunkLines
+    ) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<BulkCreateAccount.Result> results = accountProvisioningService.createAccounts(chunk);
+        for (int i = 0; i < results.size(); i++) {
+            BulkCreateAccount.Result result = results.get(i);
+            result.setLine(chunkLines.get(i));
+            writeResult(out, resultWriter, result);
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static void writeResult(
+            OutputStream out,
+            ObjectWriter resultWriter,
+            BulkCreateAccount.Result result
+    ) throws IOException {
+        resultWriter.writeValue(out, result);
+        out.write('\n');
+    }
+
     @DeleteMapping("/account")
     public DeleteAccount.Response deleteAccount(
             @RequestBody @Valid DeleteAccount.Request request
@@ -0,0 +1,24 @@
+package com.example.account.controller;
+
+import com.example.account.service.LockHoldTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이 인스턴스가 현재 보유 중인 계좌 lock 목록 (GET /actuator/accountlocks, 오래 보유한 순)
+ */
+@Component
+@Endpoint(id = "accountlocks")
+@RequiredArgsConstructor
+public class AccountLockEndpoint {
+    private final LockHoldTracker lockHoldTracker;
+
+    @ReadOperation
+    public List<LockHoldTracker.LockHolder> accountLocks() {
+        return lockHoldTracker.getHolders();
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.account.controller;
 
 import com.example.account.aop.AccountLock;
+import com.example.account.aop.MultiAccountLock;
 import com.example.account.dto.CancelBalance;
 import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.TransferBalance;
 import com.example.account.dto.UseBalance;
 import com.example.account.exception.AccountException;
 import com.example.account.service.TransactionService;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
  * 1. 거래
  * 2. 거래 취소
  * 3. 거래 확인
+ * 4. 이체
  */
 @Slf4j
 @RestController
@@ -29,7 +32,6 @@ public class TransactionController {
             @Valid @RequestBody UseBalance.Request request
     ) {
         try {
-            Thread.sleep(2000L);
             // TransactionService를 통해 잔액 사용 처리 후, 성공 응답 반환
             return UseBalance.Response.from(
                     transactionService.useBalance(
@@ -39,16 +41,14 @@ public class TransactionController {
                     )
             );
         } catch (AccountException e) {
-            // 잔액 사용 처리 중 발생한 예외를 로그에 기록 후, 실패한 거래 정보 저장
-            log.error("Failed to use balance. ");
+            // 실패한 거래 정보 저장 (예외 로그는 GlobalExceptionHandler 에서 샘플링하여 기록)
+            log.debug("Failed to use balance. ");
             transactionService.saveFailedUseTransaction(
                     request.getAccountNumber(),
                     request.getAmount()
             );
 
             throw e; // 처리 중 발생한 예외를 다시 throw하여 상위로 전파
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
         }
     }
 
@@ -67,8 +67,8 @@ public class TransactionController {
                     )
             );
         } catch (AccountException e) {
-            // 잔액 사용 취소 처리 중 발생한 예외를 로그에 기록 후, 실패한 거래 취소 정보 저장
-            log.error("Failed to cancel balance. ");
+            // 실패한 거래 취소 정보 저장 (예외 로그는 GlobalExceptionHandler 에서 샘플링하여 기록)
+            log.debug("Failed to cancel balance. ");
             transactionService.saveFailedCancelTransaction(
                     request.getAccountNumber(),
                     request.getAmount()
@@ -78,6 +78,33 @@ public class TransactionController {
         }
     }
 
+    @PostMapping("/transaction/transfer")
+    @MultiAccountLock
+    public TransferBalance.Response transferBalance(
+            @Valid @RequestBody TransferBalance.Request request
+    ) {
+        try {
+            // 두 계좌의 lock 을 정렬된 순서로 취득한 상태에서 출금/입금을 하나의 트랜잭션으로 처리
+            return TransferBalance.Response.from(
+                    transactionService.transferBalance(
+                            request.getUserId(),
+                            request.getFromAccountNumber(),
+                            request.getToAccountNumber(),
+                            request.getAmount()
+                    )
+            );
+        } catch (AccountException e) {
+            // 실패한 출금 거래 정보 저장 (예외 로그는 GlobalExceptionHandler 에서 샘플링하여 기록)
+            log.debug("Failed to transfer balance. ");
+            transactionService.saveFailedTransferTransaction(
+                    request.getFromAccountNumber(),
+                    request.getAmount()
+            );
+
+            throw e;
+        }
+    }
+
     @GetMapping("/transaction/{transactionId}")
     public QueryTransactionResponse queryTransaction(
             @PathVariable String transactionId
@@ -22,6 +22,7 @@ public class Account extends BaseEntity {
     @ManyToOne // Account 엔티티는 AccountUser 엔티티와 다대일 관계
     private AccountUser accountUser;
 
+    @Column(unique = true)
     private String accountNumber;
 
     @Enumerated(EnumType.STRING)
@@ -31,6 +32,10 @@ public class Account extends BaseEntity {
     private LocalDateTime registeredAt;
     private LocalDateTime unRegisteredAt;
 
+    // 마지막으로 쓰기 권한을 가져간 계좌 lock 의 fencing token (AccountRepository.claimFencingToken 으로만 변경)
+    @Column(insertable = false, updatable = false)
+    private Long fencingToken;
+
     public void useBalance(Long amount) {
         if (amount > balance) {
             throw new AccountException(AMOUNT_EXCEED_BALANCE);
@@ -39,6 +44,13 @@ public class Account extends BaseEntity {
         balance -= amount;
     }
 
+    public void depositBalance(Long amount) {
+        if (amount < 0) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+        balance += amount;
+    }
+
     public void cancelBalance(Long amount) {
         if (amount < 0) {
             throw new AccountException(INVALID_REQUEST);
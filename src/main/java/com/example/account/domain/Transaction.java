@@ -4,6 +4,7 @@ import com.example.account.type.TransactionResultType;
 import com.example.account.type.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Immutable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity
+@Immutable // 거래 내역은 저장 후 변경되지 않으므로 dirty checking 대상에서 제외
 @EntityListeners(AuditingEntityListener.class)
 public class Transaction extends BaseEntity {
     @Enumerated(EnumType.STRING)
@@ -26,7 +28,30 @@ public class Transaction extends BaseEntity {
     private Long amount;
     private Long balanceSnapShot;
 
+    @Column(unique = true) // findByTransactionId 조회용 유니크 인덱스
     private String transactionId;
     private LocalDateTime transactedAt;
 
+    /**
+     * 거래 후 계좌 잔액을 잔액 스냅샷으로 남기는 거래 생성
+     * 거래마다 호출되므로 빌더 없이 필드를 바로 채운다.
+     */
+    public static Transaction of(
+            TransactionType transactionType,
+            TransactionResultType transactionResultType,
+            Account account,
+            Long amount,
+            String transactionId,
+            LocalDateTime transactedAt) {
+        Transaction transaction = new Transaction();
+        transaction.transactionType = transactionType;
+        transaction.transactionResultType = transactionResultType;
+        transaction.account = account;
+        transaction.amount = amount;
+        transaction.balanceSnapShot = account.getBalance();
+        transaction.transactionId = transactionId;
+        transaction.transactedAt = transactedAt;
+        return transaction;
+    }
+
 }
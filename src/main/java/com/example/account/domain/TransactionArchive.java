@@ -0,0 +1,53 @@
+package com.example.account.domain;
+
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 취소 가능 기간(1년)이 지나 거래 테이블에서 옮겨진 거래 내역
+ * 거래 테이블은 취소 가능한 거래만 유지하여 인덱스를 작게 유지하고, 조회는 이 테이블에서 계속 가능하다.
+ * 생성/수정 일시는 원래 거래의 값을 그대로 옮기므로 auditing 으로 덮어쓰지 않는다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Immutable
+@ExcludeSuperclassListeners
+public class TransactionArchive extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+    @Enumerated(EnumType.STRING)
+    private TransactionResultType transactionResultType;
+
+    @ManyToOne
+    private Account account;
+    private Long amount;
+    private Long balanceSnapShot;
+
+    @Column(unique = true)
+    private String transactionId;
+    private LocalDateTime transactedAt;
+
+    public static TransactionArchive from(Transaction transaction) {
+        TransactionArchive archive = TransactionArchive.builder()
+                .transactionType(transaction.getTransactionType())
+                .transactionResultType(transaction.getTransactionResultType())
+                .account(transaction.getAccount())
+                .amount(transaction.getAmount())
+                .balanceSnapShot(transaction.getBalanceSnapShot())
+                .transactionId(transaction.getTransactionId())
+                .transactedAt(transaction.getTransactedAt())
+                .build();
+        archive.setCreatedAt(transaction.getCreatedAt());
+        archive.setUpdatedAt(transaction.getUpdatedAt());
+        return archive;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.account.dto;
+
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 계좌 생성 (POST /account/bulk)
+ * 요청은 한 줄에 하나의 CreateAccount.Request 인 NDJSON, 응답은 요청 줄마다 하나의 Result 인 NDJSON
+ */
+public class BulkCreateAccount {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private Long line; // 요청 NDJSON 의 줄 번호 (1부터)
+        private Long userId;
+        private String accountNumber;
+        private LocalDateTime registeredAt;
+        private ErrorCode errorCode; // 실패한 경우에만
+
+        public static Result success(AccountDto accountDto) {
+            return Result.builder()
+                    .userId(accountDto.getUserId())
+                    .accountNumber(accountDto.getAccountNumber())
+                    .registeredAt(accountDto.getRegisteredAt())
+                    .build();
+        }
+
+        public static Result failure(Long userId, ErrorCode errorCode) {
+            return Result.builder()
+                    .userId(userId)
+                    .errorCode(errorCode)
+                    .build();
+        }
+    }
+}
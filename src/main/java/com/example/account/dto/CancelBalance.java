@@ -40,13 +40,12 @@ public class CancelBalance {
         private LocalDateTime transactedAt;
 
         public static Response from(TransactionDto transactionDto) {
-            return Response.builder()
-                    .accountNumber(transactionDto.getAccountNumber())
-                    .transactionResult(transactionDto.getTransactionResultType())
-                    .transactionId(transactionDto.getTransactionId())
-                    .amount(transactionDto.getAmount())
-                    .transactedAt(transactionDto.getTransactedAt())
-                    .build();
+            return new Response(
+                    transactionDto.getAccountNumber(),
+                    transactionDto.getTransactionResultType(),
+                    transactionDto.getTransactionId(),
+                    transactionDto.getAmount(),
+                    transactionDto.getTransactedAt());
         }
     }
 }
@@ -20,13 +20,12 @@ public class QueryTransactionResponse {
     private LocalDateTime transactedAt;
 
     public static QueryTransactionResponse from(TransactionDto transactionDto) {
-        return QueryTransactionResponse.builder()
-                .accountNumber(transactionDto.getAccountNumber())
-                .transactionType(transactionDto.getTransactionType())
-                .transactionResult(transactionDto.getTransactionResultType())
-                .transactionId(transactionDto.getTransactionId())
-                .amount(transactionDto.getAmount())
-                .transactedAt(transactionDto.getTransactedAt())
-                .build();
+        return new QueryTransactionResponse(
+                transactionDto.getAccountNumber(),
+                transactionDto.getTransactionType(),
+                transactionDto.getTransactionResultType(),
+                transactionDto.getTransactionId(),
+                transactionDto.getAmount(),
+                transactionDto.getTransactedAt());
     }
 }
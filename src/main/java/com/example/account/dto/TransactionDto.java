@@ -1,6 +1,7 @@
 package com.example.account.dto;
 
 import com.example.account.domain.Transaction;
+import com.example.account.domain.TransactionArchive;
 import com.example.account.type.TransactionResultType;
 import com.example.account.type.TransactionType;
 import lombok.*;
@@ -21,15 +22,29 @@ public class TransactionDto {
     private String transactionId;
     private LocalDateTime transactedAt;
 
+    /**
+     * 서비스 → 컨트롤러 사이의 평면 전달 객체
+     * 거래마다 만들어지므로 빌더 없이 생성자로 바로 복사한다.
+     */
     public static TransactionDto fromEntity(Transaction transaction) {
-        return TransactionDto.builder()
-                .accountNumber(transaction.getAccount().getAccountNumber())
-                .transactionType(transaction.getTransactionType())
-                .transactionResultType(transaction.getTransactionResultType())
-                .amount(transaction.getAmount())
-                .balanceSnapShot(transaction.getBalanceSnapShot())
-                .transactionId(transaction.getTransactionId())
-                .transactedAt(transaction.getTransactedAt())
-                .build();
+        return new TransactionDto(
+                transaction.getAccount().getAccountNumber(),
+                transaction.getTransactionType(),
+                transaction.getTransactionResultType(),
+                transaction.getAmount(),
+                transaction.getBalanceSnapShot(),
+                transaction.getTransactionId(),
+                transaction.getTransactedAt());
+    }
+
+    public static TransactionDto fromEntity(TransactionArchive transaction) {
+        return new TransactionDto(
+                transaction.getAccount().getAccountNumber(),
+                transaction.getTransactionType(),
+                transaction.getTransactionResultType(),
+                transaction.getAmount(),
+                transaction.getBalanceSnapShot(),
+                transaction.getTransactionId(),
+                transaction.getTransactedAt());
     }
 }
@@ -0,0 +1,70 @@
+package com.example.account.dto;
+
+import com.example.account.aop.MultiAccountLockIdInterface;
+import com.example.account.aop.RateLimitUserIdInterface;
+import com.example.account.type.TransactionResultType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TransferBalance {
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Request implements MultiAccountLockIdInterface, RateLimitUserIdInterface {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String fromAccountNumber;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String toAccountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1_000_000_000)
+        private Long amount;
+
+        @JsonIgnore
+        @Override
+        public Collection<String> getAccountNumbers() {
+            return List.of(fromAccountNumber, toAccountNumber);
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private String fromAccountNumber;
+        private String toAccountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId; // 출금(TRANSFER_OUT) 거래 아이디
+        private String toTransactionId; // 입금(TRANSFER_IN) 거래 아이디
+        private Long amount;
+        private LocalDateTime transactedAt;
+
+        public static Response from(TransferDto transferDto) {
+            return new Response(
+                    transferDto.getFromAccountNumber(),
+                    transferDto.getToAccountNumber(),
+                    transferDto.getTransactionResultType(),
+                    transferDto.getTransactionId(),
+                    transferDto.getToTransactionId(),
+                    transferDto.getAmount(),
+                    transferDto.getTransactedAt());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.account.dto;
+
+import com.example.account.domain.Transaction;
+import com.example.account.type.TransactionResultType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이체 결과: 하나의 DB 트랜잭션에서 저장한 출금(TRANSFER_OUT)/입금(TRANSFER_IN) 거래의 아이디를 함께 전달
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferDto {
+    private String fromAccountNumber;
+    private String toAccountNumber;
+    private TransactionResultType transactionResultType;
+    private String transactionId;
+    private String toTransactionId;
+    private Long amount;
+    private LocalDateTime transactedAt;
+
+    public static TransferDto fromEntities(Transaction transferOut, Transaction transferIn) {
+        return new TransferDto(
+                transferOut.getAccount().getAccountNumber(),
+                transferIn.getAccount().getAccountNumber(),
+                transferOut.getTransactionResultType(),
+                transferOut.getTransactionId(),
+                transferIn.getTransactionId(),
+                transferOut.getAmount(),
+                transferOut.getTransactedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.account.dto;
 
 import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.aop.RateLimitUserIdInterface;
 import com.example.account.type.TransactionResultType;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -14,7 +15,7 @@ public class UseBalance {
     @Setter
     @AllArgsConstructor
     @NoArgsConstructor
-    public static class Request implements AccountLockIdInterface {
+    public static class Request implements AccountLockIdInterface, RateLimitUserIdInterface {
         @NotNull
         @Min(1)
         private Long userId;
@@ -42,13 +43,13 @@ public class UseBalance {
         private LocalDateTime transactedAt;
 
         public static Response from(TransactionDto transactionDto) {
-            return Response.builder()
-                    .accountNumber(transactionDto.getAccountNumber())
-                    .transactionResult(transactionDto.getTransactionResultType())
-                    .transactionId(transactionDto.getTransactionId())
-                    .amount(transactionDto.getAmount())
-                    .transactedAt(transactionDto.getTransactedAt())
-                    .build();
+            // 응답 경로에서는 빌더 객체 없이 생성자로 바로 만든다
+            return new Response(
+                    transactionDto.getAccountNumber(),
+                    transactionDto.getTransactionResultType(),
+                    transactionDto.getTransactionId(),
+                    transactionDto.getAmount(),
+                    transactionDto.getTransactedAt());
         }
     }
 }
@@ -2,21 +2,27 @@ package com.example.account.exception;
 
 
 import com.example.account.type.ErrorCode;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
+/**
+ * 업무 규칙 실패 예외
+ * 실패 응답으로 변환되는 예상된 예외이므로 스택 트레이스를 만들지 않는다.
+ * (잔액 부족 등 실패가 몰릴 때 예외 생성 비용의 대부분이 스택 수집)
+ */
 @Getter
-@Setter
-@AllArgsConstructor
 @Builder
 public class AccountException extends RuntimeException {
     private final ErrorCode errorCode;
     private final String errorMessage;
 
     public AccountException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getDescription());
+    }
+
+    public AccountException(ErrorCode errorCode, String errorMessage) {
+        super(errorMessage, null, false, false);
         this.errorCode = errorCode;
-        this.errorMessage = errorCode.getDescription();
+        this.errorMessage = errorMessage;
     }
 }
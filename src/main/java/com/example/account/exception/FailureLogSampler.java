@@ -0,0 +1,49 @@
+package com.example.account.exception;
+
+import com.example.account.type.ErrorCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업무 규칙 실패 로그 샘플링
+ * 에러 코드별로 주기마다 한 번만 로그를 남기고, 그 사이 생략된 건수는 다음 로그에 함께 남긴다.
+ */
+class FailureLogSampler {
+    private final long intervalNanos;
+    private final Map<ErrorCode, Window> windows = new EnumMap<>(ErrorCode.class);
+
+    FailureLogSampler(long intervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        long now = System.nanoTime();
+        // 생성 후에는 읽기만 하므로 EnumMap 을 여러 스레드에서 공유
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            windows.put(errorCode, new Window(now - intervalNanos));
+        }
+    }
+
+    /**
+     * @return 로그를 남길 차례이면 직전 로그 이후 생략된 건수, 아니면 -1
+     */
+    long sample(ErrorCode errorCode) {
+        Window window = windows.get(errorCode);
+        long now = System.nanoTime();
+        long nextLogAt = window.nextLogAt.get();
+        if (now - nextLogAt >= 0 && window.nextLogAt.compareAndSet(nextLogAt, now + intervalNanos)) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return -1;
+    }
+
+    private static class Window {
+        private final AtomicLong nextLogAt;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long nextLogAt) {
+            this.nextLogAt = new AtomicLong(nextLogAt);
+        }
+    }
+}
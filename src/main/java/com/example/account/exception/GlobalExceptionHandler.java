@@ -2,6 +2,7 @@ package com.example.account.exception;
 
 import com.example.account.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,9 +14,21 @@ import static com.example.account.type.ErrorCode.INVALID_REQUEST;
 @Slf4j
 @RestControllerAdvice // 모든 컨트롤러에서 발생하는 예외 처리
 public class GlobalExceptionHandler {
+    private final FailureLogSampler failureLogSampler;
+
+    public GlobalExceptionHandler(
+            @Value("${account.failure-log.interval-millis:1000}") long failureLogIntervalMillis
+    ) {
+        this.failureLogSampler = new FailureLogSampler(failureLogIntervalMillis);
+    }
+
     @ExceptionHandler(AccountException.class)
     public ErrorResponse handleAccountException(AccountException e) {
-        log.error("{} is occurred.", e.getErrorCode());
+        // 실패가 몰릴 때 로그가 CPU 를 쓰지 않도록 에러 코드별로 주기마다 한 번만 기록
+        long suppressed = failureLogSampler.sample(e.getErrorCode());
+        if (suppressed >= 0) {
+            log.error("{} is occurred. ({} suppressed since last log)", e.getErrorCode(), suppressed);
+        }
 
         return new ErrorResponse(e.getErrorCode(), e.getErrorMessage());
     }
@@ -3,8 +3,12 @@ package com.example.account.repository;
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,28 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByAccountNumber(String accountNumber);
 
     List<Account> findByAccountUser(AccountUser accountUser);
+
+    // 계좌 lock 의 fencing token 이 저장된 값 이상일 때만 갱신 (같은 lock 안의 재시도 허용, 갱신한 행은 트랜잭션 끝까지 잠김)
+    @Modifying
+    @Query("update Account a set a.fencingToken = :token "
+            + "where a.accountNumber = :accountNumber and (a.fencingToken is null or a.fencingToken <= :token)")
+    int claimFencingToken(@Param("accountNumber") String accountNumber, @Param("token") Long token);
+
+    @Query("select a.fencingToken from Account a where a.accountNumber = :accountNumber")
+    Long findFencingToken(@Param("accountNumber") String accountNumber);
+
+    // 대량 계좌 생성 시 사용자별 계좌 수를 한 번의 group by 로 조회
+    @Query("select a.accountUser.id as userId, count(a) as accountCount "
+            + "from Account a where a.accountUser.id in :userIds group by a.accountUser.id")
+    List<AccountCountByUser> countGroupByAccountUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 계좌번호 블록 할당 시 예약한 범위에서 이미 쓰인 계좌번호 (모두 10자리이므로 문자열 범위로 비교)
+    @Query("select a.accountNumber from Account a where a.accountNumber between :from and :to")
+    List<String> findAccountNumbersBetween(@Param("from") String from, @Param("to") String to);
+
+    interface AccountCountByUser {
+        Long getUserId();
+
+        Long getAccountCount();
+    }
 }
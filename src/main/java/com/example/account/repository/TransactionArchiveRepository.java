@@ -0,0 +1,14 @@
+package com.example.account.repository;
+
+import com.example.account.domain.TransactionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface TransactionArchiveRepository extends JpaRepository<TransactionArchive, Long> {
+
+    Optional<TransactionArchive> findByTransactionId(String transactionId);
+
+    boolean existsByTransactionId(String transactionId);
+
+}
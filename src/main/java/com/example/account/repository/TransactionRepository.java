@@ -1,12 +1,40 @@
 package com.example.account.repository;
 
 import com.example.account.domain.Transaction;
+import com.example.account.type.TransactionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Optional<Transaction> findByTransactionId(String transactionId);
 
+    // 거래 ID 인덱스 재구성 시 인덱스에 필요한 값만 PK 기준으로 나누어 조회 (계좌/사용자 엔티티를 읽지 않음)
+    @Query("select t.id as id, t.transactionId as transactionId, t.account.id as accountId, t.amount as amount, "
+            + "t.transactedAt as transactedAt, t.transactionType as transactionType "
+            + "from Transaction t where t.id > :id order by t.id asc")
+    List<TransactionIndexRow> findIndexRowsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    // 보관 대상(취소 가능 기간이 지난) 거래를 나누어 조회
+    List<Transaction> findTop1000ByTransactedAtBeforeOrderByIdAsc(LocalDateTime transactedAt);
+
+    interface TransactionIndexRow {
+        Long getId();
+
+        String getTransactionId();
+
+        Long getAccountId();
+
+        Long getAmount();
+
+        LocalDateTime getTransactedAt();
+
+        TransactionType getTransactionType();
+    }
 }
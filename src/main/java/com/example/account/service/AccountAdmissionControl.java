@@ -0,0 +1,121 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.account.type.ErrorCode.TRANSACTION_OVERLOADED;
+
+/**
+ * lock 으로 보호되는 거래의 동시 처리 수 제한 (admission control)
+ * 전체와 계좌별로 처리 중(lock 대기 포함)인 요청 수에 상한을 두고, 넘는 요청은 lock 을 기다리지 않고 바로 거절한다.
+ * 한 계좌에 요청이 몰려도 그 계좌의 요청만 거절되므로 다른 계좌의 거래가 Tomcat 스레드와 DB 커넥션을 잃지 않는다.
+ */
+@Component
+public class AccountAdmissionControl {
+    private final int maxInFlight;
+    private final int maxInFlightPerAccount;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentMap<String, Integer> inFlightByAccount = new ConcurrentHashMap<>();
+
+    private final AtomicLong globalRejected = new AtomicLong();
+    private final AtomicLong accountRejected = new AtomicLong();
+
+    public AccountAdmissionControl(
+            MeterRegistry meterRegistry,
+            @Value("${account.admission.max-in-flight:128}") int maxInFlight,
+            @Value("${account.admission.max-in-flight-per-account:8}") int maxInFlightPerAccount
+    ) {
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerAccount = maxInFlightPerAccount;
+
+        Gauge.builder("account.admission.in-flight", inFlight, AtomicInteger::get)
+                .description("Lock-protected requests in progress, including those waiting for a lock")
+                .register(meterRegistry);
+        Gauge.builder("account.admission.busy-accounts", inFlightByAccount, ConcurrentMap::size)
+                .description("Accounts with at least one request in progress")
+                .register(meterRegistry);
+        registerRejectedCounter(meterRegistry, "global", globalRejected);
+        registerRejectedCounter(meterRegistry, "account", accountRejected);
+    }
+
+    private static void registerRejectedCounter(MeterRegistry meterRegistry, String limit, AtomicLong counter) {
+        FunctionCounter.builder("account.admission.rejected", counter, AtomicLong::get)
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 계좌 거래의 처리 시작. 상한을 넘으면 TRANSACTION_OVERLOADED
+     * 성공한 경우 반드시 release 를 호출해야 한다.
+     */
+    public void acquire(String accountNumber) {
+        acquireGlobal();
+        if (!tryAcquireAccount(accountNumber)) {
+            inFlight.decrementAndGet();
+            accountRejected.incrementAndGet();
+            throw new AccountException(TRANSACTION_OVERLOADED);
+        }
+    }
+
+    public void release(String accountNumber) {
+        releaseAccount(accountNumber);
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 여러 계좌 거래의 처리 시작. 모든 계좌가 상한 안일 때만 허용한다(all-or-nothing).
+     */
+    public void acquireAll(Collection<String> accountNumbers) {
+        acquireGlobal();
+        List<String> acquired = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : new TreeSet<>(accountNumbers)) {
+            if (!tryAcquireAccount(accountNumber)) {
+                acquired.forEach(this::releaseAccount);
+                inFlight.decrementAndGet();
+                accountRejected.incrementAndGet();
+                throw new AccountException(TRANSACTION_OVERLOADED);
+            }
+            acquired.add(accountNumber);
+        }
+    }
+
+    public void releaseAll(Collection<String> accountNumbers) {
+        new TreeSet<>(accountNumbers).forEach(this::releaseAccount);
+        inFlight.decrementAndGet();
+    }
+
+    private void acquireGlobal() {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            globalRejected.incrementAndGet();
+            throw new AccountException(TRANSACTION_OVERLOADED);
+        }
+    }
+
+    private boolean tryAcquireAccount(String accountNumber) {
+        // 먼저 올리고 넘었으면 되돌림 (잠깐 상한을 넘어 보일 수 있으나 허용되는 요청 수는 상한을 넘지 않음)
+        if (inFlightByAccount.merge(accountNumber, 1, Integer::sum) > maxInFlightPerAccount) {
+            releaseAccount(accountNumber);
+            return false;
+        }
+        return true;
+    }
+
+    private void releaseAccount(String accountNumber) {
+        // 처리 중인 요청이 없는 계좌는 제거하여 맵이 계좌 수만큼 커지지 않도록 함
+        inFlightByAccount.computeIfPresent(accountNumber, (key, count) -> count == 1 ? null : count - 1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.account.service;
+
+import com.example.account.aop.AccountLock;
+import com.example.account.aop.AccountLockIdInterface;
+import com.example.account.aop.MultiAccountLock;
+import com.example.account.aop.MultiAccountLockIdInterface;
+import com.example.account.aop.RateLimitUserIdInterface;
+import com.example.account.exception.AccountException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+import static com.example.account.type.ErrorCode.TRANSACTION_OVERLOADED;
+import static com.example.account.type.ErrorCode.UNSUPPORTED_IN_BALANCE_ENGINE;
+
+/**
+ * @AccountLock / @MultiAccountLock 메서드의 계좌 lock 처리
+ * AspectJ 포인트컷 표현식의 args() 바인딩과 ProceedingJoinPoint 생성 없이
+ * 메서드별 lock 종류와 요청 인자 위치를 한 번만 계산해 캐시하고,
+ * 요청마다 캐시된 위치의 인자에서 바로 계좌번호를 꺼낸다.
+ * lock(또는 큐) 전에 AccountRateLimiter 로 사용자/계좌별 요청 한도를, AccountAdmissionControl 로 동시 처리 수를 검사하여
+ * 넘는 요청은 lock 을 기다리지 않고 바로 거절한다.
+ * 잔액 엔진 모드에서는 계좌의 샤드 스레드가 배타 처리를 맡으므로 lock 없이 진행한다.
+ * 프록시 적용은 AccountLockConfiguration 의 advisor 가 담당한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountLockInterceptor implements MethodInterceptor {
+    private final LockService lockService;
+    private final AccountOperationQueue accountOperationQueue;
+    private final AccountAdmissionControl accountAdmissionControl;
+    private final AccountRateLimiter accountRateLimiter;
+    private final BalanceEngine balanceEngine;
+    private final ConcurrentMap<Method, LockTarget> lockTargets = new ConcurrentHashMap<>();
+
+    /**
+     * 프록시 생성 시점의 매칭 검사
+     * lock 어노테이션은 있으나 계좌번호를 꺼낼 인자가 없는 메서드는 기동 시 실패시킨다.
+     */
+    public static boolean isLockMethod(Method method) {
+        return LockTarget.resolve(method) != null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        LockTarget target = lockTargets.get(method);
+        if (target == null) {
+            target = lockTargets.computeIfAbsent(method, LockTarget::resolve);
+        }
+        Object request = invocation.getArguments()[target.argumentIndex()];
+        return target.multiAccount()
+                ? invokeWithMultiAccountLock(invocation, (MultiAccountLockIdInterface) request)
+                : invokeWithAccountLock(invocation, (AccountLockIdInterface) request);
+    }
+
+    private Object invokeWithAccountLock(
+            MethodInvocation invocation,
+            AccountLockIdInterface request
+    ) throws Throwable {
+        String accountNumber = request.getAccountNumber();
+
+        accountRateLimiter.acquire(userIdOf(request), accountNumber);
+        accountAdmissionControl.acquire(accountNumber);
+        try {
+            // 잔액 엔진 모드: 계좌의 샤드 스레드가 순서대로 처리하므로 lock 불필요
+            if (balanceEngine.isEnabled()) {
+                return invocation.proceed();
+            }
+
+            // 큐 모드: 계좌별 단일 작성자 큐에서 순서대로 처리 (계좌 lock 은 큐가 배치마다 잡음)
+            if (accountOperationQueue.isEnabled()) {
+                try {
+                    return accountOperationQueue
+                            .submit(accountNumber, operationOf(invocation))
+                            .join();
+                } catch (CompletionException e) {
+                    // 큐에서 timeout 까지 처리되지 못한 요청은 과부하로 거절
+                    if (e.getCause() instanceof TimeoutException) {
+                        throw new AccountException(TRANSACTION_OVERLOADED);
+                    }
+                    throw e.getCause();
+                }
+            }
+
+            // lock 취득 시도
+            try {
+                lockService.lock(accountNumber);
+                return invocation.proceed();
+            } finally {
+                // lock 해제
+                lockService.unlock(accountNumber);
+            }
+        } finally {
+            accountAdmissionControl.release(accountNumber);
+        }
+    }
+
+    private Object invokeWithMultiAccountLock(
+            MethodInvocation invocation,
+            MultiAccountLockIdInterface request
+    ) throws Throwable {
+        // 잔액 엔진은 샤드 하나 안의 거래만 처리하므로 여러 계좌 거래는 거절
+        if (balanceEngine.isEnabled()) {
+            throw new AccountException(UNSUPPORTED_IN_BALANCE_ENGINE);
+        }
+        // 큐 모드에서도 큐가 배치마다 같은 계좌 lock 을 잡으므로, 여러 계좌 거래는 큐를 거치지 않고 lock 으로 배타 처리
+        accountRateLimiter.acquireAll(userIdOf(request), request.getAccountNumbers());
+        accountAdmissionControl.acquireAll(request.getAccountNumbers());
+        try {
+            try {
+                lockService.lockAll(request.getAccountNumbers());
+                return invocation.proceed();
+            } finally {
+                lockService.unlockAll(request.getAccountNumbers());
+            }
+        } finally {
+            // lock 해제가 실패해도 동시 처리 수는 반드시 돌려줌
+            accountAdmissionControl.releaseAll(request.getAccountNumbers());
+        }
+    }
+
+    private static Long userIdOf(Object request) {
+        return request instanceof RateLimitUserIdInterface userRequest ? userRequest.getUserId() : null;
+    }
+
+    /**
+     * 큐는 배치 롤백 시 작업을 다시 실행하므로 프록시 호출은 매번 복제본으로 진행한다.
+     */
+    private static AccountOperationQueue.AccountOperation<Object> operationOf(MethodInvocation invocation) {
+        if (invocation instanceof ProxyMethodInvocation proxyMethodInvocation) {
+            return () -> proxyMethodInvocation.invocableClone().proceed();
+        }
+        return invocation::proceed;
+    }
+
+    private record LockTarget(int argumentIndex, boolean multiAccount) {
+        private static LockTarget resolve(Method method) {
+            boolean single = AnnotationUtils.findAnnotation(method, AccountLock.class) != null;
+            boolean multi = AnnotationUtils.findAnnotation(method, MultiAccountLock.class) != null;
+            if (!single && !multi) {
+                return null;
+            }
+            if (single && multi) {
+                throw new IllegalStateException(
+                        "@AccountLock and @MultiAccountLock cannot be used together : " + method);
+            }
+            Class<?> requestType = multi ? MultiAccountLockIdInterface.class : AccountLockIdInterface.class;
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (requestType.isAssignableFrom(parameterTypes[i])) {
+                    return new LockTarget(i, multi);
+                }
+            }
+            throw new IllegalStateException(
+                    "Lock method must have a " + requestType.getSimpleName() + " parameter : " + method);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.account.service;
+
+import com.example.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대량 계좌 생성용 계좌번호 블록 할당
+ * 9로 시작하는 계좌번호 대역(RandomAccountNumberGenerator 가 쓰지 않는 대역)을 Redis 카운터로 블록 단위로 예약하므로
+ * 계좌마다 중복 확인 조회를 하지 않는다.
+ * 대역을 나누기 전에 임의 번호로 이 대역에 만들어진 계좌번호는 블록마다 한 번의 범위 조회로 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountNumberBlockAllocator {
+    static final long BLOCK_ACCOUNT_NUMBER_FROM = 9_000_000_000L;
+    private static final long BLOCK_ACCOUNT_NUMBER_TO = 9_999_999_999L;
+    private static final String NEXT_ACCOUNT_NUMBER_KEY = "ACNO:next";
+
+    private final RedissonClient redissonClient;
+    private final AccountRepository accountRepository;
+
+    /**
+     * 사용 중이 아닌 계좌번호 count 개를 예약
+     */
+    public List<String> allocate(int count) {
+        RAtomicLong nextAccountNumber = redissonClient.getAtomicLong(NEXT_ACCOUNT_NUMBER_KEY);
+        if (!nextAccountNumber.isExists()) {
+            // 여러 인스턴스가 동시에 초기화해도 한 번만 설정됨
+            nextAccountNumber.compareAndSet(0, BLOCK_ACCOUNT_NUMBER_FROM);
+        }
+
+        List<String> accountNumbers = new ArrayList<>(count);
+        while (accountNumbers.size() < count) {
+            int required = count - accountNumbers.size();
+            long end = nextAccountNumber.addAndGet(required);
+            if (end - 1 > BLOCK_ACCOUNT_NUMBER_TO) {
+                throw new IllegalStateException("Block account numbers are exhausted");
+            }
+            long start = end - required;
+            Set<String> used = new HashSet<>(accountRepository.findAccountNumbersBetween(
+                    Long.toString(start), Long.toString(end - 1)));
+            for (long accountNumber = start; accountNumber < end; accountNumber++) {
+                String candidate = Long.toString(accountNumber);
+                if (!used.contains(candidate)) {
+                    accountNumbers.add(candidate);
+                }
+            }
+        }
+        return accountNumbers;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.account.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계좌별 단일 작성자(single-writer) 큐
+ * 같은 계좌번호에 대한 요청을 락 경합으로 실패시키는 대신 계좌별 메일박스에 넣고,
+ * 하나의 drainer 가 순서대로 꺼내 micro-batch 단위로 하나의 DB 트랜잭션에서 처리한다.
+ * 배치 중 하나라도 실패하면 배치 전체를 롤백하고 각 작업을 개별적으로 다시 실행하므로
+ * 호출자는 항상 자신의 작업 결과(또는 예외)를 받는다.
+ * 계좌번호의 해시로 N 개의 단일 스레드 샤드에 계좌를 고정 배치하므로
+ * 한 계좌의 작업은 항상 같은 스레드에서 실행된다.
+ * 큐는 인스턴스마다 따로 있으므로, 다른 인스턴스와 같은 계좌를 동시에 처리하지 않도록 배치마다 계좌 lock 을 잡고 처리한다.
+ * 호출자의 future 는 timeout 이 지나면 TimeoutException 으로 끝나며, 그때까지 시작하지 않은 작업은 실행하지 않는다.
+ */
+@Slf4j
+@Service
+public class AccountOperationQueue {
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final LockService lockService;
+    private final long timeoutMillis;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService[] shards;
+    private final ConcurrentMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public AccountOperationQueue(
+            PlatformTransactionManager transactionManager,
+            LockService lockService,
+            @Value("${account.queue.enabled:false}") boolean enabled,
+            @Value("${account.queue.max-batch-size:32}") int maxBatchSize,
+            @Value("${account.queue.shards:4}") int shardCount,
+            @Value("${account.queue.timeout-millis:5000}") long timeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.lockService = lockService;
+        this.timeoutMillis = timeoutMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shards = new ExecutorService[enabled ? shardCount : 0];
+        for (int i = 0; i < shards.length; i++) {
+            int shard = i;
+            shards[i] = Executors.newSingleThreadExecutor(
+                    runnable -> new Thread(runnable, "account-queue-shard-" + shard));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> CompletableFuture<T> submit(String accountNumber, AccountOperation<T> operation) {
+        if (!enabled) {
+            throw new IllegalStateException("Account operation queue is disabled");
+        }
+        Task<T> task = new Task<>(operation);
+        Mailbox mailbox = mailboxes.compute(accountNumber, (key, current) -> {
+            Mailbox target = current == null ? new Mailbox(key) : current;
+            target.tasks.add(task);
+            return target;
+        });
+        schedule(mailbox);
+        return task.future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            try {
+                shardOf(mailbox.accountNumber).execute(() -> drain(mailbox));
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 메일박스를 예약 상태로 두면 이후 호출자가 끝나지 않는 future 를 받으므로 남은 작업을 모두 실패시킴
+                mailbox.scheduled.set(false);
+                Task<?> task;
+                while ((task = mailbox.tasks.poll()) != null) {
+                    task.future.completeExceptionally(e);
+                }
+                mailboxes.remove(mailbox.accountNumber, mailbox);
+            }
+        }
+    }
+
+    private ExecutorService shardOf(String accountNumber) {
+        return shards[Math.floorMod(accountNumber.hashCode(), shards.length)];
+    }
+
+    private void drain(Mailbox mailbox) {
+        try {
+            List<Task<?>> batch = new ArrayList<>(maxBatchSize);
+            Task<?> task;
+            while (batch.size() < maxBatchSize && (task = mailbox.tasks.poll()) != null) {
+                // timeout 으로 이미 끝난 호출자의 작업은 건너뜀
+                if (!task.future.isDone()) {
+                    batch.add(task);
+                }
+            }
+            if (!batch.isEmpty()) {
+                runBatchLocked(mailbox.accountNumber, batch);
+            }
+        } finally {
+            mailbox.scheduled.set(false);
+            // 비어 있는 메일박스는 제거 (compute 와 같은 키 잠금 안에서 판단하므로 작업이 유실되지 않음)
+            mailboxes.computeIfPresent(mailbox.accountNumber, (key, current) ->
+                    current == mailbox && mailbox.tasks.isEmpty() && !mailbox.scheduled.get()
+                            ? null : current);
+            if (!mailbox.tasks.isEmpty()) {
+                schedule(mailbox);
+            }
+        }
+    }
+
+    private void runBatchLocked(String accountNumber, List<Task<?>> batch) {
+        try {
+            lockService.lock(accountNumber);
+        } catch (Throwable e) {
+            // lock 을 얻지 못하면 배치의 작업을 실행하지 않고 모두 같은 예외로 끝냄
+            batch.forEach(task -> task.future.completeExceptionally(e));
+            return;
+        }
+        try {
+            runBatch(accountNumber, batch);
+        } finally {
+            lockService.unlock(accountNumber);
+        }
+    }
+
+    private void runBatch(String accountNumber, List<Task<?>> batch) {
+        if (batch.size() > 1) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Task<?> task : batch) {
+                        task.executeInBatch();
+                    }
+                });
+                batch.forEach(Task::completeFromBatch);
+                return;
+            } catch (RuntimeException | Error e) {
+                log.debug("Batch of {} rolled back for accountNumber : {}, replaying one by one",
+                        batch.size(), accountNumber);
+            }
+        }
+        // 단건이거나 배치가 롤백된 경우: 기존과 동일하게 작업별로 실행
+        batch.forEach(Task::executeAlone);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    public interface AccountOperation<T> {
+        T execute() throws Throwable;
+    }
+
+    private static class Mailbox {
+        private final String accountNumber;
+        private final Queue<Task<?>> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(String accountNumber) {
+            this.accountNumber = accountNumber;
+        }
+    }
+
+    private static class Task<T> {
+        private final AccountOperation<T> operation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T batchResult;
+
+        private Task(AccountOperation<T> operation) {
+            this.operation = operation;
+        }
+
+        private void executeInBatch() {
+            try {
+                batchResult = operation.execute();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        private void completeFromBatch() {
+            future.complete(batchResult);
+        }
+
+        private void executeAlone() {
+            try {
+                future.complete(operation.execute());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.dto.AccountDto;
+import com.example.account.dto.BulkCreateAccount;
+import com.example.account.dto.CreateAccount;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.type.AccountStatus;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.example.account.type.ErrorCode.MAX_ACCOUNT_PER_USER_10;
+import static com.example.account.type.ErrorCode.USER_NOT_FOUND;
+
+/**
+ * 대량 계좌 생성
+ * 요청 묶음마다 사용자 조회(in), 사용자별 계좌 수 조회(group by), 계좌번호 블록 할당을 한 번씩만 하고
+ * 계좌는 JDBC 배치 insert(hibernate.jdbc.batch_size)로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountProvisioningService {
+    private static final long MAX_ACCOUNT_PER_USER = 10;
+
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final AccountNumberBlockAllocator accountNumberBlockAllocator;
+
+    /**
+     * @return 요청과 같은 순서의 결과 (실패한 요청은 에러 코드만 채워짐)
+     */
+    @Transactional
+    public List<BulkCreateAccount.Result> createAccounts(List<CreateAccount.Request> requests) {
+        Set<Long> userIds = new HashSet<>();
+        requests.forEach(request -> userIds.add(request.getUserId()));
+
+        Map<Long, AccountUser> users = new HashMap<>();
+        accountUserRepository.findAllById(userIds).forEach(user -> users.put(user.getId(), user));
+
+        Map<Long, Long> accountCounts = new HashMap<>();
+        if (!users.isEmpty()) {
+            accountRepository.countGroupByAccountUserIds(users.keySet()).forEach(count ->
+                    accountCounts.put(count.getUserId(), count.getAccountCount()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkCreateAccount.Result[] results = new BulkCreateAccount.Result[requests.size()];
+        Account[] accounts = new Account[requests.size()];
+        int accepted = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            CreateAccount.Request request = requests.get(i);
+            AccountUser user = users.get(request.getUserId());
+            if (user == null) {
+                results[i] = BulkCreateAccount.Result.failure(request.getUserId(), USER_NOT_FOUND);
+            } else if (accountCounts.merge(user.getId(), 1L, Long::sum) > MAX_ACCOUNT_PER_USER) {
+                results[i] = BulkCreateAccount.Result.failure(request.getUserId(), MAX_ACCOUNT_PER_USER_10);
+            } else {
+                accounts[i] = Account.builder()
+                        .accountUser(user)
+                        .accountStatus(AccountStatus.IN_USE)
+                        .balance(request.getInitialBalance())
+                        .registeredAt(now)
+                        .build();
+                accepted++;
+            }
+        }
+
+        if (accepted > 0) {
+            Iterator<String> accountNumbers = accountNumberBlockAllocator.allocate(accepted).iterator();
+            List<Account> newAccounts = new ArrayList<>(accepted);
+            for (Account account : accounts) {
+                if (account != null) {
+                    account.setAccountNumber(accountNumbers.next());
+                    newAccounts.add(account);
+                }
+            }
+            accountRepository.saveAll(newAccounts);
+        }
+
+        for (int i = 0; i < accounts.length; i++) {
+            if (accounts[i] != null) {
+                results[i] = BulkCreateAccount.Result.success(AccountDto.fromEntity(accounts[i]));
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
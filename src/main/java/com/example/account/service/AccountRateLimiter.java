@@ -0,0 +1,217 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.account.type.ErrorCode.RATE_LIMIT_EXCEEDED;
+
+/**
+ * 사용자별 / 계좌별 요청 한도 (token bucket)
+ * lock 취득과 DB 조회 전에 검사하므로, 한도를 넘은 요청은 lock, 조회, 실패 거래 저장 비용 없이 거절된다.
+ * LOCAL 은 인스턴스별 버킷으로, 키마다 다음 토큰 시각 하나(GCRA)를 CAS 로 갱신하므로 잠금이 없다.
+ * REDIS 는 Redisson RRateLimiter 로 모든 인스턴스가 하나의 버킷을 나눠 쓴다.
+ * 요청마다 Redis 명령은 tryAcquire 1회이고, 버킷 만료는 처음 설정할 때와 버킷이 다시 차는 시간마다 한 번씩만 늦춘다.
+ * 한 요청에서 사용자 버킷을 쓴 뒤 계좌 버킷에서 거절되어도 사용자 토큰은 돌려주지 않는다.
+ */
+@Component
+public class AccountRateLimiter {
+    private static final String REDIS_KEY_PREFIX = "ACRL:";
+
+    private final boolean enabled;
+    private final Store store;
+    private final RedissonClient redissonClient;
+    private final Limit userLimit;
+    private final Limit accountLimit;
+    private final int maxTrackedKeys;
+
+    private final ConcurrentMap<Long, AtomicLong> userBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> accountBuckets = new ConcurrentHashMap<>();
+    // 인스턴스가 키마다 마지막으로 만료를 늦춘 시각(ms, nanoTime 기준)
+    private final ConcurrentMap<String, Long> redisExpireRefreshedAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong userRejected = new AtomicLong();
+    private final AtomicLong accountRejected = new AtomicLong();
+
+    public AccountRateLimiter(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${account.rate-limit.enabled:false}") boolean enabled,
+            @Value("${account.rate-limit.store:LOCAL}") Store store,
+            @Value("${account.rate-limit.user.permits-per-second:20}") long userPermitsPerSecond,
+            @Value("${account.rate-limit.user.burst:40}") long userBurst,
+            @Value("${account.rate-limit.account.permits-per-second:20}") long accountPermitsPerSecond,
+            @Value("${account.rate-limit.account.burst:40}") long accountBurst,
+            @Value("${account.rate-limit.max-tracked-keys:100000}") int maxTrackedKeys
+    ) {
+        this.enabled = enabled;
+        this.store = store;
+        this.redissonClient = redissonClient;
+        this.userLimit = Limit.of("account.rate-limit.user", userPermitsPerSecond, userBurst);
+        this.accountLimit = Limit.of("account.rate-limit.account", accountPermitsPerSecond, accountBurst);
+        this.maxTrackedKeys = maxTrackedKeys;
+
+        registerRejectedCounter(meterRegistry, "user", userRejected);
+        registerRejectedCounter(meterRegistry, "account", accountRejected);
+    }
+
+    private static void registerRejectedCounter(MeterRegistry meterRegistry, String key, AtomicLong counter) {
+        FunctionCounter.builder("account.rate-limit.rejected", counter, AtomicLong::get)
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 계좌 거래의 요청 한도 검사. 넘으면 RATE_LIMIT_EXCEEDED
+     *
+     * @param userId 사용자 아이디가 없는 요청(거래 취소 등)은 null
+     */
+    public void acquire(Long userId, String accountNumber) {
+        if (!enabled) {
+            return;
+        }
+        acquireUser(userId);
+        acquireAccount(accountNumber);
+    }
+
+    public void acquireAll(Long userId, Collection<String> accountNumbers) {
+        if (!enabled) {
+            return;
+        }
+        acquireUser(userId);
+        accountNumbers.forEach(this::acquireAccount);
+    }
+
+    private void acquireUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        boolean acquired = store == Store.REDIS
+                ? tryAcquireRedis("user:" + userId, userLimit)
+                : tryAcquireLocal(userBuckets, userId, userLimit);
+        if (!acquired) {
+            userRejected.incrementAndGet();
+            throw new AccountException(RATE_LIMIT_EXCEEDED);
+        }
+    }
+
+    private void acquireAccount(String accountNumber) {
+        boolean acquired = store == Store.REDIS
+                ? tryAcquireRedis("account:" + accountNumber, accountLimit)
+                : tryAcquireLocal(accountBuckets, accountNumber, accountLimit);
+        if (!acquired) {
+            accountRejected.incrementAndGet();
+            throw new AccountException(RATE_LIMIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * GCRA: 버킷 상태를 "버킷이 다시 가득 차는 시각" 하나로 보관한다.
+     * 요청마다 그 시각을 토큰 하나의 간격만큼 미루고, 현재 시각보다 burst 만큼 넘게 앞서면 거절한다.
+     */
+    private <K> boolean tryAcquireLocal(ConcurrentMap<K, AtomicLong> buckets, K key, Limit limit) {
+        long now = System.nanoTime();
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                evictFull(buckets, now);
+            }
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now < 0 ? now : current) + limit.intervalNanos();
+            if (next - now > limit.capacityNanos()) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // 이미 가득 찬 버킷은 없는 것과 같으므로 제거해도 한도가 바뀌지 않음
+    private static <K> void evictFull(ConcurrentMap<K, AtomicLong> buckets, long now) {
+        buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+    }
+
+    /**
+     * 버킷 키는 다시 가득 차는 시간이 지나면 없는 것과 같으므로 그 두 배로 만료를 걸어 Redis 에 쌓이지 않게 한다.
+     * 만료는 다시 차는 시간마다 한 번만 늦추므로, 사용 중인 버킷은 만료 전에 항상 한 번 이상 갱신된다.
+     * 만료로 설정까지 지워진 버킷은 tryAcquire 가 실패하므로 다시 설정하고 한 번 더 시도한다.
+     */
+    private boolean tryAcquireRedis(String key, Limit limit) {
+        String name = REDIS_KEY_PREFIX + key;
+        RRateLimiter rateLimiter = redissonClient.getRateLimiter(name);
+        long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        // 설정은 키마다 처음 한 번만 전송 (trySetRate 는 이미 설정된 키를 바꾸지 않으므로 다시 보내도 안전)
+        Long refreshedAt = redisExpireRefreshedAt.get(name);
+        if (refreshedAt == null) {
+            if (redisExpireRefreshedAt.size() >= maxTrackedKeys) {
+                redisExpireRefreshedAt.clear();
+            }
+            initializeRedis(rateLimiter, limit);
+            redisExpireRefreshedAt.put(name, now);
+        } else if (now - refreshedAt >= limit.burstWindowMillis()) {
+            // 사용 중인 버킷의 만료를 늦춤 (응답은 기다리지 않음)
+            rateLimiter.expireAsync(limit.redisTtlMillis(), TimeUnit.MILLISECONDS);
+            redisExpireRefreshedAt.put(name, now);
+        }
+        try {
+            return rateLimiter.tryAcquire();
+        } catch (RedisException e) {
+            initializeRedis(rateLimiter, limit);
+            redisExpireRefreshedAt.put(name, now);
+            return rateLimiter.tryAcquire();
+        }
+    }
+
+    private static void initializeRedis(RRateLimiter rateLimiter, Limit limit) {
+        rateLimiter.trySetRate(RateType.OVERALL, limit.burst(), limit.burstWindowMillis(),
+                RateIntervalUnit.MILLISECONDS);
+        rateLimiter.expire(limit.redisTtlMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public enum Store {
+        LOCAL,
+        REDIS
+    }
+
+    private record Limit(long intervalNanos, long capacityNanos, long burst) {
+        private static final long MAX_PERMITS_PER_SECOND = 1_000_000L;
+
+        private static Limit of(String property, long permitsPerSecond, long burst) {
+            if (permitsPerSecond < 1 || permitsPerSecond > MAX_PERMITS_PER_SECOND) {
+                throw new IllegalArgumentException(
+                        property + ".permits-per-second must be between 1 and " + MAX_PERMITS_PER_SECOND);
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException(property + ".burst must be at least 1");
+            }
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            return new Limit(intervalNanos, intervalNanos * burst, burst);
+        }
+
+        // Redis 버킷은 "burst 개 / 그만큼이 다시 차는 시간" 으로 설정
+        private long burstWindowMillis() {
+            return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(capacityNanos));
+        }
+
+        private long redisTtlMillis() {
+            return burstWindowMillis() * 2;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class AccountService {
     private final AccountRepository accountRepository; // Account 엔티티에 대한 CRUD 연산을 담당하는 JPA 리포지토리
     private final AccountUserRepository accountUserRepository; // AccountUser 엔티티에 대한 CRUD 연산을 담당하는 JPA 리포지토리
     private final AccountNumberGenerator accountNumberGenerator;
+    private final BalanceEngine balanceEngine;
 
     @Transactional
     public AccountDto createAccount(Long userId, Long initialBalance) {
@@ -67,6 +68,11 @@ public class AccountService {
         // 사용자가 없는 경우
         AccountUser accountUser = getAccountUser(userId);
 
+        // 잔액 엔진 모드: 메모리 잔액을 기준으로 해지 (DB 는 비동기 반영)
+        if (balanceEngine.isEnabled()) {
+            return balanceEngine.unregister(accountUser.getId(), accountNumber);
+        }
+
         // 계좌가 없는 경우
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
@@ -86,17 +92,17 @@ public class AccountService {
     private void validateDeleteAccount(AccountUser accountUser, Account account) {
         // 계좌 소유주가 다른 경우
         if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
-            log.error(USER_ACCOUNT_UN_MATCH.getDescription());
+            log.debug(USER_ACCOUNT_UN_MATCH.getDescription());
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
         // 이미 해지 상태인 경우
         if (account.getAccountStatus() == AccountStatus.UNREGISTERED) {
-            log.error(ACCOUNT_ALREADY_UNREGISTERED.getDescription());
+            log.debug(ACCOUNT_ALREADY_UNREGISTERED.getDescription());
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
         // 잔액이 있는 경우
         if (account.getBalance() > 0) {
-            log.error(BALANCE_NOT_EMPTY.getDescription());
+            log.debug(BALANCE_NOT_EMPTY.getDescription());
             throw new AccountException(BALANCE_NOT_EMPTY);
         }
     }
@@ -0,0 +1,625 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.AccountDto;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.TransactionType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.example.account.type.ErrorCode.*;
+import static com.example.account.type.TransactionResultType.S;
+
+/**
+ * 샤드 단일 작성자 잔액 엔진 (account.engine.enabled)
+ * 계좌번호 해시로 계좌를 N 개의 단일 스레드 샤드에 고정 배치하고, 각 샤드가 자기 계좌의 잔액을 메모리에 두고 기준 값으로 사용한다.
+ * 잔액 사용/취소와 계좌 해지는 샤드 스레드가 메모리에서 검증하고 적용한 뒤 샤드의 WAL(BalanceJournal)에 기록하고,
+ * 모아 둔 레코드를 한 번의 fsync 로 디스크에 내린 다음에 응답한다.
+ * 거래 테이블과 계좌 잔액은 별도 스레드가 WAL 레코드를 배치로 DB 에 반영하며(비동기), 반영된 순번은 checkpoint 로 남긴다.
+ * 시작 시 checkpoint 이후의 WAL 레코드를 메모리에 다시 적용하고 DB 반영 대기열에 넣는다.
+ * 메모리 잔액이 기준이므로 한 인스턴스에서만 실행할 수 있고(Redis lock 으로 확인), 잔액은 엔진을 통해서만 바뀌어야 한다.
+ * 두 샤드에 걸치는 이체는 지원하지 않는다.
+ */
+@Slf4j
+@Service
+@Lazy(false) // lazy-initialization 환경에서도 시작 시 WAL 복구가 끝나도록 즉시 생성
+public class BalanceEngine {
+    private static final String ENGINE_LOCK_KEY = "ACENGINE";
+    private static final Pattern JOURNAL_FILE = Pattern.compile("shard-(\\d+)\\.wal");
+    private static final int FEED_QUEUE_CAPACITY = 65536;
+    private static final long FEED_RETRY_MILLIS = 1000L;
+    private static final long STOP_WAIT_MILLIS = 10000L;
+
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionIdIndex transactionIdIndex;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int shardCount;
+    private final Path walDirectory;
+    private final int maxBatchSize;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final int feedBatchSize;
+    private final long compactBytes;
+
+    // DB 에 아직 반영되지 않은 거래 (취소 검증, 거래 확인용)
+    private final ConcurrentMap<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+    private final BlockingQueue<FeedItem> feedQueue = new LinkedBlockingQueue<>(FEED_QUEUE_CAPACITY);
+    private final List<BalanceJournal> journals = new ArrayList<>();
+    private Shard[] shards = new Shard[0];
+    private Thread feeder;
+    private RLock engineLock;
+    private volatile boolean running;
+    private volatile boolean feeding;
+
+    public BalanceEngine(
+            AccountRepository accountRepository,
+            AccountUserRepository accountUserRepository,
+            TransactionRepository transactionRepository,
+            TransactionIdIndex transactionIdIndex,
+            RedissonClient redissonClient,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.engine.enabled:false}") boolean enabled,
+            @Value("${account.engine.shards:4}") int shardCount,
+            @Value("${account.engine.wal-dir:./data/wal}") String walDirectory,
+            @Value("${account.engine.max-batch-size:256}") int maxBatchSize,
+            @Value("${account.engine.queue-capacity:10000}") int queueCapacity,
+            @Value("${account.engine.timeout-millis:5000}") long timeoutMillis,
+            @Value("${account.engine.feed-batch-size:500}") int feedBatchSize,
+            @Value("${account.engine.compact-bytes:67108864}") long compactBytes
+    ) {
+        if (enabled && (shardCount < 1 || maxBatchSize < 1 || queueCapacity < 1 || feedBatchSize < 1)) {
+            throw new IllegalArgumentException(
+                    "account.engine.shards, max-batch-size, queue-capacity and feed-batch-size must be at least 1");
+        }
+        this.accountRepository = accountRepository;
+        this.accountUserRepository = accountUserRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionIdIndex = transactionIdIndex;
+        this.redissonClient = redissonClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.walDirectory = Paths.get(walDirectory);
+        this.maxBatchSize = maxBatchSize;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.feedBatchSize = feedBatchSize;
+        this.compactBytes = compactBytes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        engineLock = redissonClient.getLock(ENGINE_LOCK_KEY);
+        if (!engineLock.tryLock()) {
+            throw new IllegalStateException("Balance engine is already running on another instance");
+        }
+        try {
+            Files.createDirectories(walDirectory);
+            shards = new Shard[shardCount];
+            // shard 수가 줄었어도 이전 실행의 WAL 은 모두 복구 (추가 WAL 은 DB 반영 후 다음 시작 때 비워짐)
+            int journalCount = Math.max(shardCount, existingJournalCount());
+            for (int i = 0; i < journalCount; i++) {
+                journals.add(new BalanceJournal(walDirectory, i, maxBatchSize));
+            }
+            for (int i = 0; i < shardCount; i++) {
+                shards[i] = new Shard(i, journals.get(i));
+            }
+
+            running = true;
+            feeding = true;
+            feeder = new Thread(this::feedLoop, "balance-engine-feed");
+            feeder.start();
+            int recovered = 0;
+            for (BalanceJournal journal : journals) {
+                for (BalanceJournal.Entry entry : journal.recover()) {
+                    replay(journal, entry);
+                    recovered++;
+                }
+            }
+            for (Shard shard : shards) {
+                shard.thread.start();
+            }
+            log.info("Balance engine started with {} shards, {} journal records replayed", shardCount, recovered);
+        } catch (IOException e) {
+            stop();
+            throw new UncheckedIOException("Failed to recover balance journal", e);
+        } catch (RuntimeException e) {
+            stop();
+            throw e;
+        }
+    }
+
+    /**
+     * 잔액 사용. TransactionService.useBalance 와 같은 규칙으로 메모리 잔액을 검증한다.
+     */
+    public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
+        return submit(accountNumber, (state, seq) -> {
+            if (state == null) {
+                throw new AccountException(
+                        accountUserRepository.existsById(userId) ? ACCOUNT_NOT_FOUND : USER_NOT_FOUND);
+            }
+            if (!Objects.equals(userId, state.ownerId) && !accountUserRepository.existsById(userId)) {
+                throw new AccountException(USER_NOT_FOUND);
+            }
+            TransactionService.validateUseBalance(userId, state.ownerId, state.status, state.balance, amount);
+            state.balance -= amount;
+            return transaction(BalanceJournal.Kind.USE, state, seq, amount);
+        });
+    }
+
+    /**
+     * 잔액 사용 취소. 원거래는 호출 측(TransactionService)이 찾아서 넘긴다.
+     */
+    public TransactionDto cancelBalance(TransactionIdIndex.Entry original, String accountNumber, Long amount) {
+        return submit(accountNumber, (state, seq) -> {
+            if (state == null) {
+                throw new AccountException(ACCOUNT_NOT_FOUND);
+            }
+            TransactionService.validateCancelBalance(original, state.accountId, amount);
+            state.balance += amount;
+            return transaction(BalanceJournal.Kind.CANCEL, state, seq, amount);
+        });
+    }
+
+    /**
+     * 계좌 해지. AccountService.deleteAccount 와 같은 규칙으로 메모리 잔액을 검증한다.
+     */
+    public AccountDto unregister(Long userId, String accountNumber) {
+        return submit(accountNumber, (state, seq) -> {
+            if (state == null) {
+                throw new AccountException(ACCOUNT_NOT_FOUND);
+            }
+            if (!Objects.equals(userId, state.ownerId)) {
+                throw new AccountException(USER_ACCOUNT_UN_MATCH);
+            }
+            if (state.status == AccountStatus.UNREGISTERED) {
+                throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+            }
+            if (state.balance > 0) {
+                throw new AccountException(BALANCE_NOT_EMPTY);
+            }
+            state.status = AccountStatus.UNREGISTERED;
+            state.unRegisteredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            BalanceJournal.Entry entry = new BalanceJournal.Entry(seq, BalanceJournal.Kind.UNREGISTER,
+                    state.accountId, 0L, state.balance, state.unRegisteredAt, null);
+            return new Applied(entry, new AccountDto(state.ownerId, state.accountNumber, state.balance,
+                    state.registeredAt, state.unRegisteredAt));
+        });
+    }
+
+    /**
+     * WAL 에만 있고 아직 DB 에 반영되지 않은 거래 (엔진을 사용하지 않으면 항상 null)
+     */
+    PendingTransaction findPending(String transactionId) {
+        return transactionId == null ? null : pendingTransactions.get(transactionId);
+    }
+
+    int shardIndexOf(String accountNumber) {
+        return Math.floorMod(accountNumber.hashCode(), shards.length);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            if (shard != null) {
+                join(shard.thread);
+            }
+        }
+        feeding = false;
+        if (feeder != null) {
+            join(feeder);
+        }
+        for (BalanceJournal journal : journals) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close balance journal, shard : {}", journal.shard(), e);
+            }
+        }
+        journals.clear();
+        if (engineLock != null) {
+            // lock 을 잡은 시작 스레드와 종료 스레드가 다르므로 강제로 해제
+            engineLock.forceUnlock();
+            engineLock = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T submit(String accountNumber, Operation operation) {
+        if (!enabled) {
+            throw new IllegalStateException("Balance engine is disabled");
+        }
+        Command command = new Command(accountNumber, operation);
+        if (!running || !shards[shardIndexOf(accountNumber)].commands.offer(command)) {
+            throw new AccountException(TRANSACTION_OVERLOADED);
+        }
+        try {
+            return (T) command.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업은 샤드가 건너뜀
+            command.future.cancel(false);
+            throw new AccountException(TRANSACTION_OVERLOADED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.future.cancel(false);
+            throw new AccountException(TRANSACTION_OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Balance engine operation failed", e.getCause());
+        }
+    }
+
+    private static Applied transaction(BalanceJournal.Kind kind, AccountState state, long seq, long amount) {
+        BalanceJournal.Entry entry = new BalanceJournal.Entry(seq, kind, state.accountId, amount, state.balance,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), TransactionService.newTransactionId());
+        return new Applied(entry, new PendingTransaction(state.accountNumber, entry).toDto());
+    }
+
+    private void replay(BalanceJournal journal, BalanceJournal.Entry entry) {
+        Account account = accountRepository.findById(entry.accountId())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Account of balance journal record not found : " + entry.accountId()));
+        Shard shard = shards[shardIndexOf(account.getAccountNumber())];
+        AccountState state = shard.accounts.computeIfAbsent(account.getAccountNumber(), key -> new AccountState(account));
+        state.balance = entry.balanceSnapShot();
+        if (entry.kind() == BalanceJournal.Kind.UNREGISTER) {
+            state.status = AccountStatus.UNREGISTERED;
+            state.unRegisteredAt = entry.transactedAt();
+        } else {
+            pendingTransactions.put(entry.transactionId(), new PendingTransaction(state.accountNumber, entry));
+        }
+        enqueueFeed(new FeedItem(journal, entry, true));
+    }
+
+    private void enqueueFeed(FeedItem item) {
+        try {
+            // DB 반영이 밀리면 샤드가 여기서 기다리며 새 요청을 받지 않음 (대기 요청은 timeout 으로 거절)
+            feedQueue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing balance journal record", e);
+        }
+    }
+
+    private void feedLoop() {
+        List<FeedItem> batch = new ArrayList<>(feedBatchSize);
+        while (feeding || !feedQueue.isEmpty()) {
+            FeedItem first;
+            try {
+                first = feedQueue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            feedQueue.drainTo(batch, feedBatchSize - 1);
+            while (!feed(batch)) {
+                if (!feeding) {
+                    // 반영하지 못한 레코드는 WAL 에 남아 있으므로 다음 시작 때 다시 반영됨
+                    log.error("Balance engine stopped with {} records not fed to database", batch.size());
+                    return;
+                }
+                sleep(FEED_RETRY_MILLIS);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * WAL 레코드를 하나의 DB 트랜잭션으로 반영하고, 커밋된 뒤 WAL 별로 checkpoint 를 남긴다.
+     * 다시 반영하는 레코드(replayed)는 이미 저장된 거래를 건너뛰어 중복 저장하지 않는다.
+     */
+    private boolean feed(List<FeedItem> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Account> accounts = new HashMap<>();
+                List<Transaction> transactions = new ArrayList<>(batch.size());
+                for (FeedItem item : batch) {
+                    BalanceJournal.Entry entry = item.entry();
+                    Account account = accounts.computeIfAbsent(entry.accountId(), id ->
+                            accountRepository.findById(id).orElseThrow(() -> new IllegalStateException(
+                                    "Account of balance journal record not found : " + id)));
+                    account.setBalance(entry.balanceSnapShot());
+                    if (entry.kind() == BalanceJournal.Kind.UNREGISTER) {
+                        account.setAccountStatus(AccountStatus.UNREGISTERED);
+                        account.setUnRegisteredAt(entry.transactedAt());
+                        continue;
+                    }
+                    if (item.replayed()
+                            && transactionRepository.findByTransactionId(entry.transactionId()).isPresent()) {
+                        continue;
+                    }
+                    transactions.add(Transaction.builder()
+                            .transactionType(entry.kind().transactionType())
+                            .transactionResultType(S)
+                            .account(account)
+                            .amount(entry.amount())
+                            .balanceSnapShot(entry.balanceSnapShot())
+                            .transactionId(entry.transactionId())
+                            .transactedAt(entry.transactedAt())
+                            .build());
+                }
+                for (Transaction transaction : transactionRepository.saveAll(transactions)) {
+                    transactionIdIndex.index(transaction);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to feed {} balance journal records to database, retrying", batch.size(), e);
+            return false;
+        }
+
+        Map<BalanceJournal, Long> fedSeqs = new HashMap<>();
+        for (FeedItem item : batch) {
+            fedSeqs.merge(item.journal(), item.entry().seq(), Math::max);
+            if (item.entry().transactionId() != null) {
+                pendingTransactions.remove(item.entry().transactionId());
+            }
+        }
+        fedSeqs.forEach((journal, seq) -> {
+            try {
+                journal.checkpoint(seq);
+            } catch (IOException e) {
+                // 다음 시작 때 다시 반영되지만 거래는 중복 저장되지 않음
+                log.warn("Failed to write balance journal checkpoint, shard : {}", journal.shard(), e);
+            }
+        });
+        return true;
+    }
+
+    private int existingJournalCount() throws IOException {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.map(file -> JOURNAL_FILE.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(matcher -> Integer.parseInt(matcher.group(1)) + 1)
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join(STOP_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 샤드 하나: 자기 계좌의 메모리 상태와 WAL 을 가진 단일 스레드
+     */
+    private final class Shard {
+        private final BalanceJournal journal;
+        private final BlockingQueue<Command> commands = new ArrayBlockingQueue<>(queueCapacity);
+        private final Map<String, AccountState> accounts = new HashMap<>();
+        private final Thread thread;
+
+        private Shard(int index, BalanceJournal journal) {
+            this.journal = journal;
+            this.thread = new Thread(this::run, "balance-engine-shard-" + index);
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            while (true) {
+                Command first;
+                try {
+                    first = commands.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (first == null) {
+                    if (!running) {
+                        break;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                commands.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+                batch.clear();
+                try {
+                    journal.compactIfDrained(compactBytes);
+                } catch (IOException e) {
+                    log.warn("Failed to compact balance journal, shard : {}", journal.shard(), e);
+                }
+            }
+            Command command;
+            while ((command = commands.poll()) != null) {
+                command.future.completeExceptionally(new AccountException(TRANSACTION_OVERLOADED));
+            }
+        }
+
+        /**
+         * 배치의 작업을 메모리에 적용하고 WAL 에 쓴 뒤 한 번에 디스크로 내린다.
+         * 디스크 쓰기가 실패하면 메모리 상태를 되돌리고 배치의 작업을 모두 실패시킨다.
+         */
+        private void process(List<Command> batch) {
+            List<Command> applied = new ArrayList<>(batch.size());
+            Deque<Snapshot> snapshots = new ArrayDeque<>(batch.size());
+            for (Command command : batch) {
+                // timeout 으로 이미 끝난 호출자의 작업은 건너뜀
+                if (command.future.isDone()) {
+                    continue;
+                }
+                Snapshot snapshot = null;
+                try {
+                    AccountState state = state(command.accountNumber);
+                    snapshot = state == null ? null : new Snapshot(state);
+                    command.applied = command.operation.apply(state, journal.nextSeq());
+                    journal.append(command.applied.entry());
+                    if (snapshot != null) {
+                        snapshots.push(snapshot);
+                    }
+                    applied.add(command);
+                } catch (IOException | RuntimeException e) {
+                    if (snapshot != null) {
+                        snapshot.restore();
+                    }
+                    command.future.completeExceptionally(
+                            e instanceof IOException ioException ? new UncheckedIOException(ioException) : e);
+                }
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+
+            try {
+                journal.commit();
+            } catch (IOException e) {
+                log.error("Failed to write balance journal, shard : {}", journal.shard(), e);
+                snapshots.forEach(Snapshot::restore);
+                IllegalStateException failure = new IllegalStateException("Failed to write balance journal", e);
+                applied.forEach(command -> command.future.completeExceptionally(failure));
+                return;
+            }
+
+            for (Command command : applied) {
+                BalanceJournal.Entry entry = command.applied.entry();
+                if (entry.transactionId() != null) {
+                    pendingTransactions.put(entry.transactionId(),
+                            new PendingTransaction(command.accountNumber, entry));
+                }
+                enqueueFeed(new FeedItem(journal, entry, false));
+                command.future.complete(command.applied.result());
+            }
+        }
+
+        private AccountState state(String accountNumber) {
+            AccountState state = accounts.get(accountNumber);
+            if (state == null) {
+                // 엔진이 처음 다루는 계좌: DB 에 반영되지 않은 변경이 없으므로 DB 값으로 시작
+                state = accountRepository.findByAccountNumber(accountNumber)
+                        .map(AccountState::new)
+                        .orElse(null);
+                if (state != null) {
+                    accounts.put(accountNumber, state);
+                }
+            }
+            return state;
+        }
+    }
+
+    private static final class AccountState {
+        private final long accountId;
+        private final String accountNumber;
+        private final Long ownerId;
+        private final LocalDateTime registeredAt;
+        private AccountStatus status;
+        private long balance;
+        private LocalDateTime unRegisteredAt;
+
+        private AccountState(Account account) {
+            this.accountId = account.getId();
+            this.accountNumber = account.getAccountNumber();
+            this.ownerId = account.getAccountUser().getId();
+            this.registeredAt = account.getRegisteredAt();
+            this.status = account.getAccountStatus();
+            this.balance = account.getBalance();
+            this.unRegisteredAt = account.getUnRegisteredAt();
+        }
+    }
+
+    private record Snapshot(AccountState state, AccountStatus status, long balance, LocalDateTime unRegisteredAt) {
+        private Snapshot(AccountState state) {
+            this(state, state.status, state.balance, state.unRegisteredAt);
+        }
+
+        private void restore() {
+            state.status = status;
+            state.balance = balance;
+            state.unRegisteredAt = unRegisteredAt;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        /**
+         * 샤드 스레드에서 메모리 상태를 검증하고 바꾼 뒤 WAL 레코드와 호출자에게 돌려줄 결과를 반환
+         *
+         * @param state 계좌가 없으면 null
+         */
+        Applied apply(AccountState state, long seq);
+    }
+
+    private record Applied(BalanceJournal.Entry entry, Object result) {
+    }
+
+    private static final class Command {
+        private final String accountNumber;
+        private final Operation operation;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private Applied applied;
+
+        private Command(String accountNumber, Operation operation) {
+            this.accountNumber = accountNumber;
+            this.operation = operation;
+        }
+    }
+
+    private record FeedItem(BalanceJournal journal, BalanceJournal.Entry entry, boolean replayed) {
+    }
+
+    record PendingTransaction(String accountNumber, BalanceJournal.Entry entry) {
+        TransactionIdIndex.Entry toIndexEntry() {
+            return new TransactionIdIndex.Entry(null, entry.accountId(), entry.amount(),
+                    entry.transactedAt(), entry.kind().transactionType());
+        }
+
+        TransactionDto toDto() {
+            TransactionType transactionType = entry.kind().transactionType();
+            return new TransactionDto(accountNumber, transactionType, S, entry.amount(),
+                    entry.balanceSnapShot(), entry.transactionId(), entry.transactedAt());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.account.service;
+
+import com.example.account.type.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 잔액 엔진 샤드 하나의 write-ahead log (shard-N.wal)
+ * 고정 길이(64바이트) 레코드를 이어 쓰고, 샤드가 모은 여러 레코드를 한 번의 force 로 디스크에 내린다(group commit).
+ * DB 에 반영된 마지막 순번은 checkpoint 파일(shard-N.checkpoint)에 따로 기록하고,
+ * 시작 시 checkpoint 이후의 레코드만 돌려주어 메모리와 DB 에 다시 반영하게 한다.
+ * append/commit/compact 는 샤드 스레드 하나만, checkpoint 는 DB 반영 스레드 하나만 호출한다.
+ */
+@Slf4j
+class BalanceJournal implements Closeable {
+    static final int RECORD_BYTES = 64;
+    // seq, accountId, amount, balanceSnapShot, transactedAt, transactionId(hi, lo), kind, crc
+    private static final int KIND_OFFSET = 56;
+    private static final int CHECKSUM_OFFSET = 60;
+
+    private final int shard;
+    private final FileChannel channel;
+    private final FileChannel checkpointChannel;
+    private final ByteBuffer batch;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(Long.BYTES);
+    private final CRC32 crc32 = new CRC32();
+    private long position;
+    private long committedPosition;
+    private long lastSeq;
+    private long committedSeq;
+    private volatile long checkpoint;
+
+    BalanceJournal(Path directory, int shard, int maxBatchSize) throws IOException {
+        this.shard = shard;
+        this.channel = FileChannel.open(directory.resolve("shard-" + shard + ".wal"), CREATE, READ, WRITE);
+        this.checkpointChannel =
+                FileChannel.open(directory.resolve("shard-" + shard + ".checkpoint"), CREATE, READ, WRITE);
+        this.batch = ByteBuffer.allocateDirect(Math.max(maxBatchSize, 1) * RECORD_BYTES);
+    }
+
+    enum Kind {
+        USE(TransactionType.USE),
+        CANCEL(TransactionType.CANCEL),
+        UNREGISTER(null);
+
+        private final TransactionType transactionType;
+
+        Kind(TransactionType transactionType) {
+            this.transactionType = transactionType;
+        }
+
+        TransactionType transactionType() {
+            return transactionType;
+        }
+    }
+
+    /**
+     * @param transactionId 32자리 hex 거래 ID (계좌 해지는 null)
+     */
+    record Entry(
+            long seq,
+            Kind kind,
+            long accountId,
+            long amount,
+            long balanceSnapShot,
+            LocalDateTime transactedAt,
+            String transactionId) {
+    }
+
+    int shard() {
+        return shard;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    long checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * 시작 시 한 번 호출. 끝이 잘린(쓰는 도중 종료된) 레코드는 잘라내고, checkpoint 이후의 레코드를 순서대로 돌려준다.
+     */
+    List<Entry> recover() throws IOException {
+        checkpoint = readCheckpoint();
+        lastSeq = checkpoint;
+        List<Entry> pending = new ArrayList<>();
+        long size = channel.size();
+        long offset = 0;
+        long previousSeq = 0;
+        while (offset + RECORD_BYTES <= size) {
+            record.clear();
+            readFully(channel, record, offset);
+            Entry entry = decode(record);
+            if (entry == null || entry.seq() <= previousSeq) {
+                break;
+            }
+            previousSeq = entry.seq();
+            lastSeq = Math.max(lastSeq, entry.seq());
+            if (entry.seq() > checkpoint) {
+                pending.add(entry);
+            }
+            offset += RECORD_BYTES;
+        }
+        if (offset < size) {
+            log.warn("Truncating torn balance journal tail, shard : {}, {} -> {} bytes", shard, size, offset);
+            channel.truncate(offset);
+        }
+        position = offset;
+        if (pending.isEmpty() && position > 0) {
+            // 모두 DB 에 반영되었으므로 비우고 시작
+            channel.truncate(0);
+            position = 0;
+        }
+        committedPosition = position;
+        committedSeq = lastSeq;
+        return pending;
+    }
+
+    long nextSeq() {
+        return lastSeq + 1;
+    }
+
+    void append(Entry entry) throws IOException {
+        encode(entry, record);
+        if (batch.remaining() < RECORD_BYTES) {
+            writeBatch();
+        }
+        batch.put(record);
+        lastSeq = entry.seq();
+    }
+
+    /**
+     * append 한 레코드를 디스크에 내린다. 실패하면 이번 배치의 레코드를 모두 잘라내고 예외를 던진다.
+     */
+    void commit() throws IOException {
+        try {
+            writeBatch();
+            channel.force(false);
+            committedPosition = position;
+            committedSeq = lastSeq;
+        } catch (IOException e) {
+            batch.clear();
+            position = committedPosition;
+            lastSeq = committedSeq;
+            try {
+                channel.truncate(committedPosition);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DB 에 seq 까지 반영되었음을 기록
+     */
+    void checkpoint(long seq) throws IOException {
+        checkpointBuffer.clear();
+        checkpointBuffer.putLong(seq).flip();
+        while (checkpointBuffer.hasRemaining()) {
+            checkpointChannel.write(checkpointBuffer, checkpointBuffer.position());
+        }
+        checkpointChannel.force(false);
+        checkpoint = seq;
+    }
+
+    /**
+     * 파일이 maxBytes 이상이고 모든 레코드가 DB 에 반영되었으면 비운다.
+     */
+    void compactIfDrained(long maxBytes) throws IOException {
+        if (position >= maxBytes && checkpoint >= committedSeq) {
+            channel.truncate(0);
+            position = 0;
+            committedPosition = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            checkpointChannel.close();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            position += channel.write(batch, position);
+        }
+        batch.clear();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (checkpointChannel.size() < Long.BYTES) {
+            return 0L;
+        }
+        checkpointBuffer.clear();
+        readFully(checkpointChannel, checkpointBuffer, 0);
+        return checkpointBuffer.getLong(0);
+    }
+
+    private void encode(Entry entry, ByteBuffer target) {
+        target.clear();
+        target.putLong(entry.seq());
+        target.putLong(entry.accountId());
+        target.putLong(entry.amount());
+        target.putLong(entry.balanceSnapShot());
+        target.putLong(entry.transactedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        String transactionId = entry.transactionId();
+        target.putLong(transactionId == null ? 0L : Long.parseUnsignedLong(transactionId.substring(0, 16), 16));
+        target.putLong(transactionId == null ? 0L : Long.parseUnsignedLong(transactionId.substring(16), 16));
+        target.putInt(entry.kind().ordinal());
+        crc32.reset();
+        crc32.update(target.array(), 0, CHECKSUM_OFFSET);
+        target.putInt((int) crc32.getValue());
+        target.flip();
+    }
+
+    private Entry decode(ByteBuffer source) {
+        crc32.reset();
+        crc32.update(source.array(), 0, CHECKSUM_OFFSET);
+        int kind = source.getInt(KIND_OFFSET);
+        if (source.getInt(CHECKSUM_OFFSET) != (int) crc32.getValue()
+                || kind < 0 || kind >= Kind.values().length) {
+            return null;
+        }
+        long hi = source.getLong(40);
+        long lo = source.getLong(48);
+        return new Entry(
+                source.getLong(0),
+                Kind.values()[kind],
+                source.getLong(8),
+                source.getLong(16),
+                source.getLong(24),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(source.getLong(32)), ZoneOffset.UTC),
+                hi == 0L && lo == 0L ? null : String.format("%016x%016x", hi, lo));
+    }
+
+    private static void readFully(FileChannel source, ByteBuffer target, long offset) throws IOException {
+        while (target.hasRemaining()) {
+            if (source.read(target, offset + target.position()) < 0) {
+                break;
+            }
+        }
+    }
+}
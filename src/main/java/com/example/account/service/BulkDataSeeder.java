@@ -0,0 +1,165 @@
+package com.example.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 규모 테스트용 대량 데이터 적재 (seed 프로파일)
+ * 사용자, 계좌, 거래를 JPA 를 거치지 않고 JDBC 배치 insert 로 적재한 뒤
+ * 엔티티 시퀀스를 적재한 id 이후로 옮겨 이후 API 로 만드는 데이터와 충돌하지 않게 한다.
+ * ex) ./gradlew bootRun --args='--spring.profiles.active=durable,seed --account.seed.users=1000000'
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class BulkDataSeeder implements ApplicationRunner {
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSACTION_AMOUNT = 1_000L;
+    // 시퀀스 allocationSize(50) 보다 크게 띄워 이미 할당된 id 블록과 겹치지 않게 함
+    private static final long SEQUENCE_GAP = 100L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int users;
+    private final int accountsPerUser;
+    private final int transactionsPerAccount;
+    private final int batchSize;
+
+    public BulkDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.seed.users:1000000}") int users,
+            @Value("${account.seed.accounts-per-user:1}") int accountsPerUser,
+            @Value("${account.seed.transactions-per-account:3}") int transactionsPerAccount,
+            @Value("${account.seed.batch-size:5000}") int batchSize
+    ) {
+        if (accountsPerUser < 1 || accountsPerUser > 10) {
+            throw new IllegalArgumentException("account.seed.accounts-per-user must be between 1 and 10");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.users = users;
+        this.accountsPerUser = accountsPerUser;
+        this.transactionsPerAccount = transactionsPerAccount;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long userId = nextId("account_user", "account_user_seq");
+        long accountId = nextId("account", "account_seq");
+        long transactionId = nextId("transaction", "transaction_seq");
+        long accountNumber = nextAccountNumber();
+        long startedAt = System.currentTimeMillis();
+
+        log.info("Seeding {} users, {} accounts per user, {} transactions per account",
+                users, accountsPerUser, transactionsPerAccount);
+        for (int seeded = 0; seeded < users; seeded += batchSize) {
+            int chunk = Math.min(batchSize, users - seeded);
+            long chunkUserId = userId;
+            long chunkAccountId = accountId;
+            long chunkTransactionId = transactionId;
+            long chunkAccountNumber = accountNumber;
+            transactionTemplate.executeWithoutResult(status -> insertChunk(
+                    chunk, chunkUserId, chunkAccountId, chunkTransactionId, chunkAccountNumber));
+
+            userId += chunk;
+            accountId += (long) chunk * accountsPerUser;
+            transactionId += (long) chunk * accountsPerUser * transactionsPerAccount;
+            accountNumber += (long) chunk * accountsPerUser;
+            log.info("Seeded {} / {} users", seeded + chunk, users);
+        }
+
+        // 커넥션 풀이 auto-commit 을 끄므로 트랜잭션 안에서 커밋해야 함 (PostgreSQL 의 restart 는 롤백됨)
+        long nextUserId = userId;
+        long nextAccountId = accountId;
+        long nextTransactionId = transactionId;
+        transactionTemplate.executeWithoutResult(status -> {
+            restartSequence("account_user_seq", nextUserId);
+            restartSequence("account_seq", nextAccountId);
+            restartSequence("transaction_seq", nextTransactionId);
+        });
+        log.info("Seeding finished in {} ms", System.currentTimeMillis() - startedAt);
+    }
+
+    private void insertChunk(int chunk, long userId, long accountId, long transactionId, long accountNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> userRows = new ArrayList<>(chunk);
+        List<Object[]> accountRows = new ArrayList<>(chunk * accountsPerUser);
+        List<Object[]> transactionRows = new ArrayList<>(chunk * accountsPerUser * transactionsPerAccount);
+
+        for (int u = 0; u < chunk; u++) {
+            long currentUserId = userId + u;
+            userRows.add(new Object[]{currentUserId, "user-" + currentUserId, now, now});
+
+            for (int a = 0; a < accountsPerUser; a++) {
+                long currentAccountId = accountId + (long) u * accountsPerUser + a;
+                long balance = INITIAL_BALANCE - TRANSACTION_AMOUNT * transactionsPerAccount;
+                accountRows.add(new Object[]{currentAccountId, currentUserId,
+                        String.valueOf(accountNumber + (currentAccountId - accountId)),
+                        "IN_USE", balance, now, now, now});
+
+                for (int t = 0; t < transactionsPerAccount; t++) {
+                    // 거래 일시를 2년에 걸쳐 분산하여 보관 대상 거래도 함께 생성
+                    LocalDateTime transactedAt = now.minusMinutes(
+                            (currentAccountId * 7919L + t * 104729L) % (2L * 365 * 24 * 60));
+                    transactionRows.add(new Object[]{
+                            transactionId + (currentAccountId - accountId) * transactionsPerAccount + t,
+                            "USE", "S", currentAccountId, TRANSACTION_AMOUNT,
+                            INITIAL_BALANCE - TRANSACTION_AMOUNT * (t + 1),
+                            TransactionService.newTransactionId(), transactedAt, now, now});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into account_user(id, name, created_at, updated_at) values (?, ?, ?, ?)",
+                userRows);
+        jdbcTemplate.batchUpdate(
+                "insert into account(id, account_user_id, account_number, account_status, balance, "
+                        + "registered_at, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                accountRows);
+        jdbcTemplate.batchUpdate(
+                "insert into transaction(id, transaction_type, transaction_result_type, account_id, amount, "
+                        + "balance_snap_shot, transaction_id, transacted_at, created_at, updated_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                transactionRows);
+    }
+
+    /**
+     * 테이블의 최대 id 와 시퀀스 현재 블록 이후의 첫 id
+     */
+    private long nextId(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        Long sequenceValue = jdbcTemplate.queryForObject("select nextval('" + sequence + "')", Long.class);
+        return Math.max(maxId == null ? 0 : maxId, sequenceValue == null ? 0 : sequenceValue) + SEQUENCE_GAP;
+    }
+
+    /**
+     * 10자리 계좌번호: 기존 계좌번호와 겹치지 않도록 가장 큰 계좌번호 다음부터 순서대로 발급
+     */
+    private long nextAccountNumber() {
+        Long maxAccountNumber = jdbcTemplate.queryForObject(
+                "select max(cast(account_number as bigint)) from account", Long.class);
+        long next = maxAccountNumber == null ? 1_000_000_000L : maxAccountNumber + 1;
+        if (next + (long) users * accountsPerUser > 9_999_999_999L) {
+            throw new IllegalStateException("Not enough 10-digit account numbers left for seeding");
+        }
+        return Math.max(next, 1_000_000_000L);
+    }
+
+    private void restartSequence(String sequence, long nextId) {
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (nextId + SEQUENCE_GAP));
+    }
+}
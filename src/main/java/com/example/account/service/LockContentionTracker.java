@@ -0,0 +1,138 @@
+package com.example.account.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계좌별 lock 경합 추적
+ * 경합이 발생할 때마다 계좌의 점수를 올리고 점수는 시간이 지나면 반감기에 따라 줄어든다.
+ * 점수가 기준 이상인 계좌만 hot 으로 보고 대기하는 lock 을 바로 사용하며,
+ * 나머지(cold) 계좌는 대기 없이 한 번만 시도하는 빠른 경로를 먼저 사용한다.
+ * 추적하는 계좌 수는 상한이 있으며, 넘으면 식은 계좌와 점수가 낮은 계좌부터 정리한다.
+ */
+@Component
+public class LockContentionTracker {
+    private final ConcurrentMap<String, Contention> contentions = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final long halfLifeNanos;
+    private final double hotThreshold;
+    private final int maxTrackedAccounts;
+
+    private final AtomicLong fastPathAcquired = new AtomicLong();
+    private final AtomicLong fastPathContended = new AtomicLong();
+    private final AtomicLong slowPathAcquired = new AtomicLong();
+    private final AtomicLong slowPathFailed = new AtomicLong();
+
+    public LockContentionTracker(
+            MeterRegistry meterRegistry,
+            @Value("${account.lock.contention.half-life-millis:60000}") long halfLifeMillis,
+            @Value("${account.lock.contention.hot-threshold:1.5}") double hotThreshold,
+            @Value("${account.lock.contention.max-tracked-accounts:10000}") int maxTrackedAccounts
+    ) {
+        this.halfLifeNanos = TimeUnit.MILLISECONDS.toNanos(halfLifeMillis);
+        this.hotThreshold = hotThreshold;
+        this.maxTrackedAccounts = maxTrackedAccounts;
+
+        registerCounter(meterRegistry, "fast", "acquired", fastPathAcquired);
+        registerCounter(meterRegistry, "fast", "contended", fastPathContended);
+        registerCounter(meterRegistry, "slow", "acquired", slowPathAcquired);
+        registerCounter(meterRegistry, "slow", "failed", slowPathFailed);
+    }
+
+    private static void registerCounter(
+            MeterRegistry meterRegistry, String path, String result, AtomicLong counter) {
+        FunctionCounter.builder("account.lock.attempts", counter, AtomicLong::get)
+                .tag("path", path)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public boolean isHot(String accountNumber) {
+        Contention contention = contentions.get(accountNumber);
+        return contention != null && contention.score(System.nanoTime()) >= hotThreshold;
+    }
+
+    public void recordContention(String accountNumber) {
+        long now = System.nanoTime();
+        if (contentions.size() >= maxTrackedAccounts && !contentions.containsKey(accountNumber)
+                && evicting.compareAndSet(false, true)) {
+            try {
+                evict(now);
+            } finally {
+                evicting.set(false);
+            }
+        }
+        contentions.compute(accountNumber, (key, contention) -> {
+            Contention target = contention == null ? new Contention(now) : contention;
+            target.increment(now);
+            return target;
+        });
+    }
+
+    /**
+     * 식은 계좌를 정리하고, 그래도 많으면 점수가 낮은 계좌부터 상한의 90% 까지 줄인다.
+     * 한 번 정리하면 상한의 10% 만큼 새 계좌가 들어올 때까지 다시 정리하지 않으므로 경합 경로의 전체 순회가 드물다.
+     */
+    private void evict(long now) {
+        contentions.values().removeIf(contention -> contention.score(now) < hotThreshold);
+        int excess = contentions.size() - maxTrackedAccounts * 9 / 10;
+        if (excess > 0) {
+            contentions.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().score(now)))
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(contentions::remove);
+        }
+    }
+
+    int trackedAccounts() {
+        return contentions.size();
+    }
+
+    public void fastPathAcquired() {
+        fastPathAcquired.incrementAndGet();
+    }
+
+    public void fastPathContended(String accountNumber) {
+        fastPathContended.incrementAndGet();
+        recordContention(accountNumber);
+    }
+
+    public void slowPathAcquired() {
+        slowPathAcquired.incrementAndGet();
+    }
+
+    public void slowPathFailed(String accountNumber) {
+        slowPathFailed.incrementAndGet();
+        recordContention(accountNumber);
+    }
+
+    private class Contention {
+        private double score;
+        private long updatedAt;
+
+        private Contention(long now) {
+            this.updatedAt = now;
+        }
+
+        private synchronized double score(long now) {
+            return score * Math.pow(0.5, (double) (now - updatedAt) / halfLifeNanos);
+        }
+
+        private synchronized void increment(long now) {
+            score = score(now) + 1;
+            updatedAt = now;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.account.service;
+
+import com.example.account.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 계좌 lock 의 fencing token
+ * lock 을 얻을 때마다 계좌별로 단조 증가하는 token 을 발급해 현재 스레드에 보관하고,
+ * 거래는 계좌를 읽기 전에 그 token 으로 계좌 행의 쓰기 권한을 가져온다(AccountRepository.claimFencingToken).
+ * lease 가 만료된 뒤 다른 요청이 lock 과 더 큰 token 을 가져가 쓰기 권한을 얻었다면,
+ * 늦게 깨어난 요청의 쓰기는 거절되므로 lease 를 짧게 잡아도 lost update 가 생기지 않는다.
+ * 쓰기 권한을 가져온 행은 트랜잭션이 끝날 때까지 DB 행 잠금으로 보호된다.
+ */
+@Slf4j
+@Component
+public class LockFencing {
+    private static final ThreadLocal<Map<String, Long>> TOKENS = new ThreadLocal<>();
+
+    private final RedissonClient redissonClient;
+    private final AccountRepository accountRepository;
+    private final boolean enabled;
+
+    public LockFencing(
+            RedissonClient redissonClient,
+            AccountRepository accountRepository,
+            @Value("${account.lock.fencing.enabled:true}") boolean enabled
+    ) {
+        this.redissonClient = redissonClient;
+        this.accountRepository = accountRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * lock 을 얻은 직후 호출하여 현재 스레드에 새 token 을 발급
+     */
+    public void issue(String accountNumber) {
+        if (!enabled) {
+            return;
+        }
+        long token = counter(accountNumber).incrementAndGet();
+        Map<String, Long> tokens = TOKENS.get();
+        if (tokens == null) {
+            tokens = new HashMap<>(4);
+            TOKENS.set(tokens);
+        }
+        tokens.put(accountNumber, token);
+    }
+
+    /**
+     * lock 을 해제할 때 호출 (요청 스레드를 재사용해도 token 이 남지 않도록 비워지면 ThreadLocal 도 제거)
+     */
+    public void clear(String accountNumber) {
+        Map<String, Long> tokens = TOKENS.get();
+        if (tokens != null && tokens.remove(accountNumber) != null && tokens.isEmpty()) {
+            TOKENS.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드의 token 으로 계좌 행의 쓰기 권한을 가져온다. 트랜잭션 안에서 계좌를 읽기 전에 호출해야 한다.
+     * token 이 없으면(큐 모드, fencing 사용 안 함) 검사하지 않는다.
+     *
+     * @return 더 큰 token 을 가진 요청이 이미 쓰기 권한을 가져갔으면 true (계좌가 없는 경우에도 true)
+     */
+    public boolean isSuperseded(String accountNumber) {
+        Map<String, Long> tokens = TOKENS.get();
+        Long token = tokens == null ? null : tokens.get(accountNumber);
+        if (token == null) {
+            return false;
+        }
+        if (accountRepository.claimFencingToken(accountNumber, token) > 0) {
+            return false;
+        }
+        catchUp(accountNumber);
+        return true;
+    }
+
+    /**
+     * Redis 데이터가 유실되어 카운터가 DB 의 token 보다 작아진 경우, 다음 lock 부터는 쓰기 권한을 얻을 수 있도록 카운터를 올림
+     */
+    private void catchUp(String accountNumber) {
+        Long stored = accountRepository.findFencingToken(accountNumber);
+        if (stored == null) {
+            return;
+        }
+        RAtomicLong counter = counter(accountNumber);
+        long current;
+        while ((current = counter.get()) < stored) {
+            if (counter.compareAndSet(current, stored)) {
+                log.warn("Fencing token counter was behind the stored token, accountNumber : {}, {} -> {}",
+                        accountNumber, current, stored);
+                return;
+            }
+        }
+    }
+
+    private RAtomicLong counter(String accountNumber) {
+        return redissonClient.getAtomicLong("ACFT:" + accountNumber);
+    }
+}
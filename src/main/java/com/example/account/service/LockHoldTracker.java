@@ -0,0 +1,164 @@
+package com.example.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 lock 보유 현황 추적 (lock-hold watchdog)
+ * LockService 가 lock 을 얻을 때 취득 시각, 스레드, 요청 경로를 기록하고 해제할 때 보유 시간을 남긴다.
+ * 주기적으로 기준 시간보다 오래 보유 중인 lock 을 보유 스레드의 스택과 함께 한 번씩 경고하며,
+ * 현재 보유 목록은 /actuator/accountlocks 로 확인한다.
+ * lease(15초)가 끝난 뒤 해제하려 한 경우(mismatched unlock)를 세어, 보유 시간 분포와 함께 lease 를 줄일 근거로 쓴다.
+ */
+@Slf4j
+@Component
+public class LockHoldTracker {
+    private static final int STACK_DEPTH = 20;
+
+    // 같은 인스턴스에서 lease 가 만료된 lock 을 다른 스레드가 다시 얻어도 각자의 기록이 남도록 (계좌, 스레드) 로 구분
+    private final ConcurrentMap<HolderKey, Holder> holders = new ConcurrentHashMap<>();
+    private final long holdThresholdNanos;
+
+    private final Timer holdTimer;
+    private final Counter heldTooLong;
+    private final Counter mismatchedUnlocks;
+
+    public LockHoldTracker(
+            MeterRegistry meterRegistry,
+            @Value("${account.lock.watchdog.hold-threshold-millis:5000}") long holdThresholdMillis
+    ) {
+        this.holdThresholdNanos = TimeUnit.MILLISECONDS.toNanos(holdThresholdMillis);
+
+        this.holdTimer = Timer.builder("account.lock.hold")
+                .description("Time an account lock was held")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.heldTooLong = Counter.builder("account.lock.held-too-long")
+                .description("Account locks reported by the watchdog for exceeding the hold threshold")
+                .register(meterRegistry);
+        this.mismatchedUnlocks = Counter.builder("account.lock.unlock.mismatched")
+                .description("Unlocks of an acquired lock that was no longer held, usually an expired lease")
+                .register(meterRegistry);
+        Gauge.builder("account.lock.held", holders, ConcurrentMap::size)
+                .description("Account locks currently held by this instance")
+                .register(meterRegistry);
+    }
+
+    public void acquired(String accountNumber) {
+        Thread thread = Thread.currentThread();
+        holders.put(new HolderKey(accountNumber, thread), new Holder(accountNumber, thread, currentEndpoint()));
+    }
+
+    /**
+     * 현재 스레드가 얻은 lock 의 해제 기록
+     *
+     * @return 현재 스레드가 얻었던 lock 이면 true (그 사이 다른 스레드가 같은 계좌의 lock 을 얻었어도 true,
+     * lock 취득에 실패한 뒤의 해제 호출이면 false)
+     */
+    public boolean released(String accountNumber) {
+        Holder holder = holders.remove(new HolderKey(accountNumber, Thread.currentThread()));
+        if (holder == null) {
+            return false;
+        }
+        holdTimer.record(System.nanoTime() - holder.acquiredNanos, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    /**
+     * 얻었던 lock 이 해제 시점에 이미 보유 중이 아님 (lease 만료 등)
+     */
+    public void mismatchedUnlock() {
+        mismatchedUnlocks.increment();
+    }
+
+    public List<LockHolder> getHolders() {
+        long now = System.nanoTime();
+        return holders.values().stream()
+                .map(holder -> holder.toLockHolder(now))
+                .sorted(Comparator.comparingLong(LockHolder::heldMillis).reversed())
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${account.lock.watchdog.interval-millis:1000}")
+    public void reportLongHeldLocks() {
+        long now = System.nanoTime();
+        for (Holder holder : holders.values()) {
+            if (!holder.reported && now - holder.acquiredNanos > holdThresholdNanos) {
+                holder.reported = true;
+                heldTooLong.increment();
+                log.warn("Lock held too long, accountNumber : {}, heldMillis : {}, thread : {}, endpoint : {}{}",
+                        holder.accountNumber,
+                        TimeUnit.NANOSECONDS.toMillis(now - holder.acquiredNanos),
+                        holder.thread.getName(),
+                        holder.endpoint,
+                        formatStack(holder.thread.getStackTrace()));
+            }
+        }
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(stack.length, STACK_DEPTH); i++) {
+            builder.append("\n\tat ").append(stack[i]);
+        }
+        return builder.toString();
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return null;
+    }
+
+    public record LockHolder(
+            String accountNumber,
+            String thread,
+            String endpoint,
+            LocalDateTime acquiredAt,
+            long heldMillis
+    ) {
+    }
+
+    private record HolderKey(String accountNumber, Thread thread) {
+    }
+
+    private static class Holder {
+        private final String accountNumber;
+        private final Thread thread;
+        private final String endpoint;
+        private final LocalDateTime acquiredAt = LocalDateTime.now();
+        private final long acquiredNanos = System.nanoTime();
+        private volatile boolean reported;
+
+        private Holder(String accountNumber, Thread thread, String endpoint) {
+            this.accountNumber = accountNumber;
+            this.thread = thread;
+            this.endpoint = endpoint;
+        }
+
+        private LockHolder toLockHolder(long now) {
+            return new LockHolder(accountNumber, thread.getName(), endpoint, acquiredAt,
+                    TimeUnit.NANOSECONDS.toMillis(now - acquiredNanos));
+        }
+    }
+}
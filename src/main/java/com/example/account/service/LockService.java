@@ -1,12 +1,20 @@
 package com.example.account.service;
 
+import com.example.account.config.RedissonProperties;
 import com.example.account.exception.AccountException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
 import static com.example.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
@@ -15,17 +23,62 @@ import static com.example.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 @Slf4j
 @RequiredArgsConstructor
 public class LockService {
+    /**
+     * 정렬된 계좌 lock 을 한 번의 호출로 모두 얻거나 하나도 얻지 않음
+     * Redisson RLock 과 같은 형식(hash 필드 "인스턴스 id:스레드 id" 에 재진입 횟수)으로 기록하므로 해제는 RLock 으로 한다.
+     * KEYS: lock 키, ARGV[1]: lease(ms), ARGV[2]: lock 이름
+     */
+    private static final String LOCK_ALL_SCRIPT = """
+            for i, key in ipairs(KEYS) do
+                if redis.call('exists', key) == 1 and redis.call('hexists', key, ARGV[2]) == 0 then
+                    return 0
+                end
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('hincrby', key, ARGV[2], 1)
+                redis.call('pexpire', key, ARGV[1])
+            end
+            return 1
+            """;
+    private static final long LOCK_ALL_WAIT_MILLIS = 1000L;
+    private static final long LOCK_ALL_RETRY_MILLIS = 20L;
+    private static final long LEASE_MILLIS = 15000L;
+
     private final RedissonClient redissonClient;
+    private final RedissonProperties redissonProperties;
+    private final LockContentionTracker lockContentionTracker;
+    private final LockHoldTracker lockHoldTracker;
+    private final LockFencing lockFencing;
 
     public void lock(String accountNumber) throws InterruptedException {
         RLock lock = redissonClient.getLock(getLockKey(accountNumber));
-        log.debug("Trying lock for accountNumber : {}", accountNumber);
+        if (log.isDebugEnabled()) {
+            log.debug("Trying lock for accountNumber : {}", accountNumber);
+        }
         try {
+            // 경합이 없던 계좌는 대기(pub/sub 구독) 없이 한 번만 시도
+            if (!lockContentionTracker.isHot(accountNumber)) {
+                if (lock.tryLock(0, 15, TimeUnit.SECONDS)) {
+                    lockContentionTracker.fastPathAcquired();
+                    lockHoldTracker.acquired(accountNumber);
+                    lockFencing.issue(accountNumber);
+                    return;
+                }
+                lockContentionTracker.fastPathContended(accountNumber);
+            }
+
             boolean isLock = lock.tryLock(1, 15, TimeUnit.SECONDS);
             if (!isLock) {
-                log.error("============ Lock acquisition failed ============");
+                lockContentionTracker.slowPathFailed(accountNumber);
+                // 실패 로그는 GlobalExceptionHandler 가 에러 코드별로 샘플링하여 남김
+                if (log.isDebugEnabled()) {
+                    log.debug("Lock acquisition failed, accountNumber : {}", accountNumber);
+                }
                 throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
             }
+            lockContentionTracker.slowPathAcquired();
+            lockHoldTracker.acquired(accountNumber);
+            lockFencing.issue(accountNumber);
         } catch (AccountException e) {
             throw e;
         } catch (Exception e) {
@@ -36,12 +89,83 @@ public class LockService {
 
     public void unlock(String accountNumber) {
         RLock lock = redissonClient.getLock(getLockKey(accountNumber));
+        lockFencing.clear(accountNumber);
+        boolean acquired = lockHoldTracker.released(accountNumber);
         if (lock.isHeldByCurrentThread()) {
-            log.debug("Unlock for accountNumber : {}", accountNumber);
+            if (log.isDebugEnabled()) {
+                log.debug("Unlock for accountNumber : {}", accountNumber);
+            }
             lock.unlock();
-        } else {
+        } else if (acquired) {
+            // 얻었던 lock 의 lease 가 처리 도중 끝남: 다른 요청이 같은 계좌를 동시에 처리했을 수 있음
+            lockHoldTracker.mismatchedUnlock();
             log.warn("Attempt to unlock by thread not holding the lock, accountNumber : {}", accountNumber);
+        } else if (log.isDebugEnabled()) {
+            // lock 취득에 실패한 요청의 해제 호출
+            log.debug("Skip unlock of lock not acquired, accountNumber : {}", accountNumber);
+        }
+    }
+
+    /**
+     * 여러 계좌를 모두 lock 하거나 하나도 lock 하지 않는다(all-or-nothing).
+     * 계좌번호를 정렬된 순서로 취득하므로 같은 계좌들을 lock 하는 요청끼리 교착 상태가 생기지 않는다.
+     * 시도마다 Lua 스크립트 한 번(Redis 왕복 1회)으로 모든 계좌를 확인하고 얻는다.
+     * 클러스터 모드는 키가 서로 다른 slot 에 있어 한 스크립트로 다룰 수 없으므로 RedissonMultiLock 으로 차례로 얻는다.
+     */
+    public void lockAll(Collection<String> accountNumbers) throws InterruptedException {
+        SortedSet<String> sortedAccountNumbers = new TreeSet<>(accountNumbers);
+        if (log.isDebugEnabled()) {
+            log.debug("Trying lock for accountNumbers : {}", sortedAccountNumbers);
         }
+        try {
+            boolean isLock = redissonProperties.getMode() == RedissonProperties.Mode.CLUSTER
+                    ? tryLockAllSequentially(sortedAccountNumbers)
+                    : tryLockAllAtOnce(sortedAccountNumbers);
+            if (!isLock) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Multi lock acquisition failed, accountNumbers : {}", sortedAccountNumbers);
+                }
+                throw new AccountException(ACCOUNT_TRANSACTION_LOCK);
+            }
+            sortedAccountNumbers.forEach(lockHoldTracker::acquired);
+            sortedAccountNumbers.forEach(lockFencing::issue);
+        } catch (AccountException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis multi lock failed", e);
+            throw e;
+        }
+    }
+
+    private boolean tryLockAllAtOnce(SortedSet<String> sortedAccountNumbers) throws InterruptedException {
+        List<Object> keys = new ArrayList<>(sortedAccountNumbers.size());
+        sortedAccountNumbers.forEach(accountNumber -> keys.add(getLockKey(accountNumber)));
+        String lockName = redissonClient.getId() + ":" + Thread.currentThread().getId();
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOCK_ALL_WAIT_MILLIS);
+        while (true) {
+            Long acquired = script.eval(RScript.Mode.READ_WRITE, LOCK_ALL_SCRIPT, RScript.ReturnType.INTEGER,
+                    keys, String.valueOf(LEASE_MILLIS), lockName);
+            if (acquired != null && acquired == 1L) {
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(LOCK_ALL_RETRY_MILLIS);
+        }
+    }
+
+    private boolean tryLockAllSequentially(SortedSet<String> sortedAccountNumbers) throws InterruptedException {
+        RLock multiLock = redissonClient.getMultiLock(sortedAccountNumbers.stream()
+                .map(accountNumber -> redissonClient.getLock(getLockKey(accountNumber)))
+                .toArray(RLock[]::new));
+        return multiLock.tryLock(LOCK_ALL_WAIT_MILLIS, LEASE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void unlockAll(Collection<String> accountNumbers) {
+        new TreeSet<>(accountNumbers).forEach(this::unlock);
     }
 
     private static String getLockKey(String accountNumber) {
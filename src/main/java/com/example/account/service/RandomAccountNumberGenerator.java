@@ -18,7 +18,8 @@ public class RandomAccountNumberGenerator implements AccountNumberGenerator {
         Random rnd = new Random();
         String accountNumber;
         do {
-            accountNumber = Long.toString(Math.abs(1000000000L + (rnd.nextLong() % 9000000000L)));
+            // 9로 시작하는 대역은 대량 생성(AccountNumberBlockAllocator) 전용
+            accountNumber = Long.toString(1000000000L + Math.floorMod(rnd.nextLong(), 8000000000L));
         } while (accountRepository.findByAccountNumber(accountNumber).isPresent());
         return accountNumber;
     }
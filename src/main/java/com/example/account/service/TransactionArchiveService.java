@@ -0,0 +1,94 @@
+package com.example.account.service;
+
+import com.example.account.domain.Transaction;
+import com.example.account.domain.TransactionArchive;
+import com.example.account.repository.TransactionArchiveRepository;
+import com.example.account.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 취소 가능 기간(1년)이 지난 거래를 보관 테이블로 옮기는 스케줄 작업
+ * 모든 인스턴스에서 같은 시각에 실행되므로, Redis lock 을 얻은 인스턴스 하나만 옮기고 나머지는 건너뛴다.
+ * 거래 테이블과 그 인덱스, 메모리의 TransactionIdIndex 를 취소 가능한 거래만큼으로 작게 유지한다.
+ */
+@Slf4j
+@Service
+@Lazy(false) // lazy-initialization 환경에서도 스케줄이 등록되도록 즉시 생성
+public class TransactionArchiveService {
+    private static final String ARCHIVE_LOCK_KEY = "ACARCHIVE";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final TransactionIdIndex transactionIdIndex;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public TransactionArchiveService(
+            TransactionRepository transactionRepository,
+            TransactionArchiveRepository transactionArchiveRepository,
+            TransactionIdIndex transactionIdIndex,
+            RedissonClient redissonClient,
+            PlatformTransactionManager transactionManager,
+            @Value("${account.archive.enabled:false}") boolean enabled
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.transactionArchiveRepository = transactionArchiveRepository;
+        this.transactionIdIndex = transactionIdIndex;
+        this.redissonClient = redissonClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${account.archive.cron:0 0 4 * * *}")
+    public void archiveScheduled() {
+        if (!enabled) {
+            return;
+        }
+        // lease 를 지정하지 않아 watchdog 이 작업이 끝날 때까지 lock 을 연장함
+        RLock lock = redissonClient.getLock(ARCHIVE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("Transaction archive is running on another instance, skipped");
+            return;
+        }
+        try {
+            archive(LocalDateTime.now().minusYears(1));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * cutoff 이전 거래를 1000건씩 나누어 각각 하나의 DB 트랜잭션에서 보관 테이블로 옮긴다.
+     */
+    public int archive(LocalDateTime cutoff) {
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Transaction> transactions =
+                        transactionRepository.findTop1000ByTransactedAtBeforeOrderByIdAsc(cutoff);
+                transactionArchiveRepository.saveAll(
+                        transactions.stream().map(TransactionArchive::from).toList());
+                transactionRepository.deleteAll(transactions);
+                transactionIdIndex.evict(transactions);
+                return transactions.size();
+            });
+            archived += moved;
+        } while (moved > 0);
+
+        log.info("{} transactions before {} archived", archived, cutoff);
+        return archived;
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.account.service;
+
+import com.example.account.domain.Transaction;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * transactionId(32자리 hex = 128bit) -> (거래 PK, 계좌 PK, 거래 금액, 거래 일시, 거래 종류) 인덱스
+ * 거래는 저장 후 변경되지 않으므로 취소 검증에 필요한 값만 off-heap 메모리에 open addressing 으로 보관하여
+ * 거래 취소 시 DB 조회 없이 검증할 수 있게 한다.
+ * 인덱스에 없는 거래(다른 인스턴스에서 생성, 용량 초과 등)는 기존처럼 DB 에서 조회한다.
+ * 보관 테이블로 옮긴 거래는 인덱스에서도 지워 용량을 취소 가능한 거래만큼으로 유지한다.
+ */
+@Slf4j
+@Service
+public class TransactionIdIndex {
+    private static final int SLOT_BYTES = 7 * Long.BYTES; // key(hi, lo), pk, accountId, amount, transactedAt, type
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_SLOTS = 1 << SEGMENT_SHIFT;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final boolean enabled;
+    private final long capacity;
+    private final long maxSize;
+    private final ByteBuffer[] segments;
+    private final StampedLock lock = new StampedLock();
+    private long size;
+    private boolean fullLogged; // 가득 찬 뒤 매 거래마다 경고하지 않도록, 다시 자리가 날 때까지 한 번만 기록
+
+    public TransactionIdIndex(
+            TransactionRepository transactionRepository,
+            @Value("${account.transaction-index.enabled:false}") boolean enabled,
+            @Value("${account.transaction-index.capacity:1048576}") long capacity
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.enabled = enabled;
+        this.capacity = enabled ? Long.highestOneBit(Math.max(capacity, 2) - 1) << 1 : 0;
+        this.maxSize = this.capacity / 4 * 3; // load factor 0.75
+        int segmentCount = (int) ((this.capacity + SEGMENT_SLOTS - 1) >>> SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = ByteBuffer.allocateDirect(
+                    (int) Math.min(this.capacity, SEGMENT_SLOTS) * SLOT_BYTES);
+        }
+    }
+
+    public record Entry(
+            Long transactionPk,
+            Long accountId,
+            Long amount,
+            LocalDateTime transactedAt,
+            TransactionType transactionType) {
+        public static Entry from(Transaction transaction) {
+            return new Entry(
+                    transaction.getId(),
+                    transaction.getAccount().getId(),
+                    transaction.getAmount(),
+                    transaction.getTransactedAt(),
+                    transaction.getTransactionType());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long lastId = 0L;
+        Pageable firstPage = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        List<TransactionRepository.TransactionIndexRow> page;
+        do {
+            // 엔티티 대신 인덱스 값만 조회하여 거래마다 계좌/사용자를 읽지 않음
+            page = transactionRepository.findIndexRowsByIdGreaterThan(lastId, firstPage);
+            for (TransactionRepository.TransactionIndexRow row : page) {
+                put(row.getTransactionId(), row.getId(), row.getAccountId(), row.getAmount(),
+                        row.getTransactedAt(), row.getTransactionType());
+                lastId = row.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        log.info("Transaction id index rebuilt with {} entries", size);
+    }
+
+    /**
+     * 거래를 인덱스에 등록. DB 트랜잭션 안이라면 커밋된 뒤에만 등록하여 롤백된 거래가 남지 않게 한다.
+     */
+    public void index(Transaction transaction) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(transaction);
+                }
+            });
+        } else {
+            put(transaction);
+        }
+    }
+
+    /**
+     * 거래들을 인덱스에서 제거. DB 트랜잭션 안이라면 커밋된 뒤에만 제거한다.
+     */
+    public void evict(Collection<Transaction> transactions) {
+        if (!enabled || transactions.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeAll(transactions);
+                }
+            });
+        } else {
+            removeAll(transactions);
+        }
+    }
+
+    public Entry find(String transactionId) {
+        if (!enabled || !isHexId(transactionId)) {
+            return null;
+        }
+        long hi = parseHex(transactionId, 0);
+        long lo = parseHex(transactionId, 16);
+
+        long stamp = lock.tryOptimisticRead();
+        Entry entry = lookup(hi, lo);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                entry = lookup(hi, lo);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return entry;
+    }
+
+    private void put(Transaction transaction) {
+        if (transaction.getAccount() == null) {
+            return;
+        }
+        put(transaction.getTransactionId(), transaction.getId(), transaction.getAccount().getId(),
+                transaction.getAmount(), transaction.getTransactedAt(), transaction.getTransactionType());
+    }
+
+    private void put(
+            String transactionId,
+            Long transactionPk,
+            Long accountId,
+            Long amount,
+            LocalDateTime transactedAt,
+            TransactionType transactionType) {
+        if (!isHexId(transactionId) || transactionPk == null || transactionType == null || accountId == null) {
+            return;
+        }
+        long hi = parseHex(transactionId, 0);
+        long lo = parseHex(transactionId, 16);
+        if (hi == 0L && lo == 0L) {
+            return; // 빈 슬롯 표시와 겹치는 key 는 인덱싱하지 않음
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            long slot = findSlot(hi, lo);
+            ByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+            int offset = offsetOf(slot);
+            boolean isNew = segment.getLong(offset) == 0L && segment.getLong(offset + 8) == 0L;
+            if (isNew && size >= maxSize) {
+                if (!fullLogged) {
+                    fullLogged = true;
+                    log.warn("Transaction id index is full ({} entries), falling back to database", size);
+                }
+                return;
+            }
+            segment.putLong(offset, hi);
+            segment.putLong(offset + 8, lo);
+            segment.putLong(offset + 16, transactionPk);
+            segment.putLong(offset + 24, accountId);
+            segment.putLong(offset + 32, amount);
+            segment.putLong(offset + 40, transactedAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+            segment.putLong(offset + 48, transactionType.ordinal());
+            if (isNew) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void removeAll(Collection<Transaction> transactions) {
+        long stamp = lock.writeLock();
+        try {
+            for (Transaction transaction : transactions) {
+                String transactionId = transaction.getTransactionId();
+                if (isHexId(transactionId)) {
+                    remove(parseHex(transactionId, 0), parseHex(transactionId, 16));
+                }
+            }
+            if (size < maxSize) {
+                fullLogged = false;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 선형 탐사의 삭제: 빈 슬롯을 남기면 뒤쪽 key 를 찾지 못하므로, 뒤따르는 key 들을 당겨 채운다 (write lock 안에서 호출)
+    private void remove(long hi, long lo) {
+        if (hi == 0L && lo == 0L) {
+            return;
+        }
+        long mask = capacity - 1;
+        long empty = findSlot(hi, lo);
+        if (slotHi(empty) != hi || slotLo(empty) != lo) {
+            return;
+        }
+        long slot = empty;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long slotHi = slotHi(slot);
+            long slotLo = slotLo(slot);
+            if (slotHi == 0L && slotLo == 0L) {
+                break;
+            }
+            long home = mix(slotHi ^ slotLo) & mask;
+            // home 이 (empty, slot] 구간에 있으면 제자리 근처이므로 옮기지 않음
+            boolean inPlace = empty <= slot
+                    ? empty < home && home <= slot
+                    : empty < home || home <= slot;
+            if (!inPlace) {
+                copySlot(slot, empty);
+                empty = slot;
+            }
+        }
+        ByteBuffer segment = segments[(int) (empty >>> SEGMENT_SHIFT)];
+        int offset = offsetOf(empty);
+        segment.putLong(offset, 0L);
+        segment.putLong(offset + 8, 0L);
+        size--;
+    }
+
+    private void copySlot(long from, long to) {
+        ByteBuffer source = segments[(int) (from >>> SEGMENT_SHIFT)];
+        ByteBuffer target = segments[(int) (to >>> SEGMENT_SHIFT)];
+        int sourceOffset = offsetOf(from);
+        int targetOffset = offsetOf(to);
+        for (int i = 0; i < SLOT_BYTES; i += Long.BYTES) {
+            target.putLong(targetOffset + i, source.getLong(sourceOffset + i));
+        }
+    }
+
+    private long slotHi(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong(offsetOf(slot));
+    }
+
+    private long slotLo(long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)].getLong(offsetOf(slot) + 8);
+    }
+
+    private Entry lookup(long hi, long lo) {
+        long slot = findSlot(hi, lo);
+        ByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+        int offset = offsetOf(slot);
+        if (segment.getLong(offset) != hi || segment.getLong(offset + 8) != lo) {
+            return null;
+        }
+        return new Entry(
+                segment.getLong(offset + 16),
+                segment.getLong(offset + 24),
+                segment.getLong(offset + 32),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(segment.getLong(offset + 40)), ZoneOffset.UTC),
+                TransactionType.values()[(int) segment.getLong(offset + 48)]);
+    }
+
+    // 선형 탐사: 같은 key 가 있는 슬롯 또는 첫 번째 빈 슬롯을 반환
+    private long findSlot(long hi, long lo) {
+        long mask = capacity - 1;
+        long slot = mix(hi ^ lo) & mask;
+        for (long probe = 0; probe < capacity; probe++) {
+            ByteBuffer segment = segments[(int) (slot >>> SEGMENT_SHIFT)];
+            int offset = offsetOf(slot);
+            long slotHi = segment.getLong(offset);
+            long slotLo = segment.getLong(offset + 8);
+            if ((slotHi == hi && slotLo == lo) || (slotHi == 0L && slotLo == 0L)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int offsetOf(long slot) {
+        return (int) (slot & (SEGMENT_SLOTS - 1)) * SLOT_BYTES;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static boolean isHexId(String transactionId) {
+        if (transactionId == null || transactionId.length() != 32) {
+            return false;
+        }
+        for (int i = 0; i < 32; i++) {
+            if (Character.digit(transactionId.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String transactionId, int from) {
+        long value = 0L;
+        for (int i = from; i < from + 16; i++) {
+            value = (value << 4) | Character.digit(transactionId.charAt(i), 16);
+        }
+        return value;
+    }
+}
@@ -4,9 +4,11 @@ import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import com.example.account.domain.Transaction;
 import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransferDto;
 import com.example.account.exception.AccountException;
 import com.example.account.repository.AccountRepository;
 import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.TransactionArchiveRepository;
 import com.example.account.repository.TransactionRepository;
 import com.example.account.type.AccountStatus;
 import com.example.account.type.TransactionResultType;
@@ -16,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -23,19 +26,28 @@ import java.util.UUID;
 import static com.example.account.type.ErrorCode.*;
 import static com.example.account.type.TransactionResultType.F;
 import static com.example.account.type.TransactionResultType.S;
-import static com.example.account.type.TransactionType.CANCEL;
-import static com.example.account.type.TransactionType.USE;
+import static com.example.account.type.TransactionType.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+
     private final TransactionRepository transactionRepository;
     private final AccountUserRepository accountUserRepository;
     private final AccountRepository accountRepository;
+    private final TransactionIdIndex transactionIdIndex;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final LockFencing lockFencing;
+    private final BalanceEngine balanceEngine;
 
     @Transactional
     public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
+        // 잔액 엔진 모드: 계좌의 샤드가 메모리 잔액으로 처리 (DB 는 비동기 반영)
+        if (balanceEngine.isEnabled()) {
+            return balanceEngine.useBalance(userId, accountNumber, amount);
+        }
 
         AccountUser user = accountUserRepository.findById(userId)
                 .orElseThrow(() -> new AccountException(USER_NOT_FOUND)); // 사용자가 없음
@@ -50,23 +62,70 @@ public class TransactionService {
     }
 
     private void validateUseBalance(AccountUser user, Account account, Long amount) {
+        validateUseBalance(user.getId(), account.getAccountUser().getId(),
+                account.getAccountStatus(), account.getBalance(), amount);
+    }
+
+    /**
+     * 잔액 사용 검증 (BalanceEngine 의 메모리 잔액 검증과 공유)
+     */
+    static void validateUseBalance(
+            Long userId, Long ownerId, AccountStatus accountStatus, long balance, Long amount) {
         // 계좌 소유주 불일치
-        if (!Objects.equals(user.getId(), account.getAccountUser().getId())) {
+        if (!Objects.equals(userId, ownerId)) {
             throw new AccountException(USER_ACCOUNT_UN_MATCH);
         }
 
         // 해지된 계좌인 경우
-        if (account.getAccountStatus() != AccountStatus.IN_USE) {
+        if (accountStatus != AccountStatus.IN_USE) {
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
 
         // 잔액 보다 큰 금액 사용
-        if (account.getBalance() < amount) {
+        if (balance < amount) {
             throw new AccountException(AMOUNT_EXCEED_BALANCE);
         }
 
     }
 
+    /**
+     * 이체: 출금 계좌에서 잔액을 사용하고 입금 계좌에 더한 뒤, 출금/입금 거래를 하나의 DB 트랜잭션에서 저장
+     * 두 계좌의 lock 은 호출 측(@MultiAccountLock)에서 정렬된 순서로 취득한다.
+     * 두 거래를 짝지을 수 있도록 출금/입금 거래 아이디를 함께 돌려준다.
+     */
+    @Transactional
+    public TransferDto transferBalance(
+            Long userId, String fromAccountNumber, String toAccountNumber, Long amount) {
+        if (Objects.equals(fromAccountNumber, toAccountNumber)) {
+            throw new AccountException(TRANSFER_TO_SAME_ACCOUNT);
+        }
+        AccountUser user = accountUserRepository.findById(userId)
+                .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+        Account fromAccount = getAccount(fromAccountNumber);
+        Account toAccount = getAccount(toAccountNumber);
+
+        validateUseBalance(user, fromAccount, amount);
+        // 해지된 계좌로는 이체 불가
+        if (toAccount.getAccountStatus() != AccountStatus.IN_USE) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+
+        fromAccount.useBalance(amount);
+        toAccount.depositBalance(amount);
+
+        Transaction transferOut = saveAndGetTransaction(TRANSFER_OUT, S, fromAccount, amount);
+        Transaction transferIn = saveAndGetTransaction(TRANSFER_IN, S, toAccount, amount);
+
+        return TransferDto.fromEntities(transferOut, transferIn);
+    }
+
+    @Transactional
+    public void saveFailedTransferTransaction(String fromAccountNumber, Long amount) {
+        Account account = getAccount(fromAccountNumber);
+
+        saveAndGetTransaction(TRANSFER_OUT, F, account, amount);
+    }
+
     @Transactional
     public void saveFailedUseTransaction(String accountNumber, Long amount) {
         Account account = getAccount(accountNumber);
@@ -79,26 +138,59 @@ public class TransactionService {
             TransactionResultType transactionResultType,
             Account account,
             Long amount) {
-        return transactionRepository.save(
-                Transaction.builder()
-                        .transactionType(transactionType)
-                        .transactionResultType(transactionResultType)
-                        .account(account)
-                        .amount(amount)
-                        .balanceSnapShot(account.getBalance())
-                        .transactionId(UUID.randomUUID().toString().replace("-", ""))
-                        .transactedAt(LocalDateTime.now())
-                        .build()
-        );
+        Transaction transaction = transactionRepository.save(Transaction.of(
+                transactionType,
+                transactionResultType,
+                account,
+                amount,
+                newTransactionId(),
+                LocalDateTime.now()
+        ));
+        transactionIdIndex.index(transaction);
+        return transaction;
+    }
+
+    /**
+     * 하이픈 없는 32자리 소문자 hex UUID
+     * UUID.toString().replace("-", "") 와 같은 값을 중간 문자열 없이 만든다.
+     */
+    static String newTransactionId() {
+        UUID uuid = UUID.randomUUID();
+        byte[] hex = new byte[32];
+        writeHex(hex, 0, uuid.getMostSignificantBits());
+        writeHex(hex, 16, uuid.getLeastSignificantBits());
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(byte[] target, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            target[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
     }
 
     @Transactional
     public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
-        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
+        // 잔액 엔진에서 DB 반영을 기다리는 거래나 인덱스에 있는 거래는 거래 조회 없이 검증
+        BalanceEngine.PendingTransaction pending = balanceEngine.findPending(transactionId);
+        TransactionIdIndex.Entry indexed = pending != null
+                ? pending.toIndexEntry()
+                : transactionIdIndex.find(transactionId);
+        Transaction transaction = indexed != null ? null :
+                transactionRepository.findByTransactionId(transactionId)
+                        .orElseThrow(() -> transactionArchiveRepository.existsByTransactionId(transactionId)
+                                // 보관된 거래는 모두 취소 가능 기간이 지난 거래
+                                ? new AccountException(TOO_OLD_OLDER_TO_CANCEL)
+                                : new AccountException(TRANSACTION_NOT_FOUND));
+        TransactionIdIndex.Entry original = indexed != null ? indexed : TransactionIdIndex.Entry.from(transaction);
+
+        if (balanceEngine.isEnabled()) {
+            return balanceEngine.cancelBalance(original, accountNumber, amount);
+        }
+
         Account account = getAccount(accountNumber);
 
-        validateCancelBalance(transaction, account, amount);
+        validateCancelBalance(original, account.getId(), amount);
 
         account.cancelBalance(amount);
 
@@ -107,18 +199,25 @@ public class TransactionService {
         );
     }
 
-    private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
+    /**
+     * 잔액 사용 취소 검증 (BalanceEngine 의 메모리 잔액 검증과 공유)
+     */
+    static void validateCancelBalance(TransactionIdIndex.Entry transaction, Long accountId, Long amount) {
+        // 이체 거래는 상대 계좌가 있으므로 잔액 사용 취소로 되돌릴 수 없음
+        if (transaction.transactionType() == TRANSFER_OUT || transaction.transactionType() == TRANSFER_IN) {
+            throw new AccountException(TRANSFER_CANNOT_BE_CANCELLED);
+        }
         // 트랜잭션 아이디 불일치
-        if (!Objects.equals(transaction.getAccount().getId(), account.getId())) {
+        if (!Objects.equals(transaction.accountId(), accountId)) {
             throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
         }
         // 거래 금액과 거래 취소 금액이 다른 경우
-        if (!Objects.equals(transaction.getAmount(), amount)) {
+        if (!Objects.equals(transaction.amount(), amount)) {
             throw new AccountException(CANCEL_MUST_FULLY);
 
         }
         // 1년이 지난 거래는 취소 불가
-        if (transaction.getTransactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
+        if (transaction.transactedAt().isBefore(LocalDateTime.now().minusYears(1))) {
             throw new AccountException(TOO_OLD_OLDER_TO_CANCEL);
         }
     }
@@ -132,15 +231,29 @@ public class TransactionService {
     }
 
     private Account getAccount(String accountNumber) {
-        return accountRepository.findByAccountNumber(accountNumber)
+        // lock 의 fencing token 으로 계좌 행의 쓰기 권한을 먼저 가져온 뒤 읽어야 최신 잔액을 기준으로 처리됨
+        boolean superseded = lockFencing.isSuperseded(accountNumber);
+        Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+        // lease 가 만료되어 다른 요청이 이미 이 계좌를 처리함
+        if (superseded) {
+            throw new AccountException(ACCOUNT_LOCK_EXPIRED);
+        }
+        return account;
     }
 
     public TransactionDto queryTransaction(String transactionId) {
-        return TransactionDto.fromEntity(
-                transactionRepository
+        // 잔액 엔진에서 DB 반영을 기다리는 거래
+        BalanceEngine.PendingTransaction pending = balanceEngine.findPending(transactionId);
+        if (pending != null) {
+            return pending.toDto();
+        }
+        return transactionRepository
+                .findByTransactionId(transactionId)
+                .map(TransactionDto::fromEntity)
+                .or(() -> transactionArchiveRepository
                         .findByTransactionId(transactionId)
-                        .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND))
-        );
+                        .map(TransactionDto::fromEntity))
+                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
     }
 }
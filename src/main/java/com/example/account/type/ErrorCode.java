@@ -14,11 +14,17 @@ public enum ErrorCode {
     AMOUNT_EXCEED_BALANCE("거래 금액이 계좌 잔액보다 큽니다."),
     ACCOUNT_NOT_FOUND("계좌가 없습니다."),
     ACCOUNT_TRANSACTION_LOCK("해당 계좌는 사용 중 입니다."),
+    ACCOUNT_LOCK_EXPIRED("계좌 lock 이 만료되어 거래를 처리하지 않았습니다. 다시 시도해 주세요."),
+    RATE_LIMIT_EXCEEDED("요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+    TRANSACTION_OVERLOADED("처리 중인 거래가 많습니다. 잠시 후 다시 시도해 주세요."),
     ACCOUNT_ALREADY_UNREGISTERED("계좌가 이미 해지되었습니다."),
     BALANCE_NOT_EMPTY("잔액이 있는 계좌는 해지 할 수 없습니다."),
     TOO_OLD_OLDER_TO_CANCEL("1년이 지난 거래는 취소가 불가능합니다."),
     CANCEL_MUST_FULLY("부분 취소는 허용되지 않습니다"),
     TRANSACTION_ACCOUNT_UN_MATCH("이 거래는 해당 계좌에서 발생한 거래가 아닙니다."),
-    TRANSACTION_NOT_FOUND("해당 거래가 존재하지 않습니다.");
+    TRANSACTION_NOT_FOUND("해당 거래가 존재하지 않습니다."),
+    TRANSFER_TO_SAME_ACCOUNT("같은 계좌로 이체할 수 없습니다."),
+    TRANSFER_CANNOT_BE_CANCELLED("이체 거래는 취소할 수 없습니다."),
+    UNSUPPORTED_IN_BALANCE_ENGINE("잔액 엔진 모드에서는 처리할 수 없는 거래입니다.");
     private final String description;
 }
@@ -0,0 +1,67 @@
+-- 초기 스키마 (PostgreSQL / H2 PostgreSQL 호환 모드 공통)
+-- 엔티티의 @GeneratedValue 는 엔티티별 시퀀스(allocationSize 50)를 사용
+
+create sequence account_user_seq start with 1 increment by 50;
+create sequence account_seq start with 1 increment by 50;
+create sequence transaction_seq start with 1 increment by 50;
+create sequence transaction_archive_seq start with 1 increment by 50;
+
+create table account_user
+(
+    id         bigint not null primary key,
+    name       varchar(255),
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+
+create table account
+(
+    id               bigint not null primary key,
+    account_user_id  bigint references account_user (id),
+    account_number   varchar(255),
+    account_status   varchar(255),
+    balance          bigint,
+    registered_at    timestamp(6),
+    un_registered_at timestamp(6),
+    created_at       timestamp(6),
+    updated_at       timestamp(6)
+);
+
+-- 계좌번호 조회(findByAccountNumber), 사용자별 계좌 조회/개수
+create unique index ux_account_account_number on account (account_number);
+create index ix_account_account_user_id on account (account_user_id);
+
+create table transaction
+(
+    id                      bigint not null primary key,
+    transaction_type        varchar(255),
+    transaction_result_type varchar(255),
+    account_id              bigint references account (id),
+    amount                  bigint,
+    balance_snap_shot       bigint,
+    transaction_id          varchar(255),
+    transacted_at           timestamp(6),
+    created_at              timestamp(6),
+    updated_at              timestamp(6)
+);
+
+-- 거래 ID 조회, 계좌 FK, 보관 대상(거래 일시) 조회
+create unique index ux_transaction_transaction_id on transaction (transaction_id);
+create index ix_transaction_account_id on transaction (account_id);
+create index ix_transaction_transacted_at on transaction (transacted_at);
+
+create table transaction_archive
+(
+    id                      bigint not null primary key,
+    transaction_type        varchar(255),
+    transaction_result_type varchar(255),
+    account_id              bigint references account (id),
+    amount                  bigint,
+    balance_snap_shot       bigint,
+    transaction_id          varchar(255),
+    transacted_at           timestamp(6),
+    created_at              timestamp(6),
+    updated_at              timestamp(6)
+);
+
+create unique index ux_transaction_archive_transaction_id on transaction_archive (transaction_id);
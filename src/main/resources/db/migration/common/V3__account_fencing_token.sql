@@ -0,0 +1,3 @@
+-- 계좌 lock 의 fencing token (LockFencing)
+-- 더 큰 token 으로 쓰기 권한을 가져간 요청이 있으면, lease 가 만료된 요청의 쓰기를 거절한다.
+alter table account add column fencing_token bigint not null default 0;
@@ -0,0 +1,7 @@
+-- 로컬 durable 프로파일용 샘플 사용자 (local 프로파일의 data.sql 과 같음)
+insert into account_user(id, name, created_at, updated_at)
+values (1, 'Pororo', now(), now());
+insert into account_user(id, name, created_at, updated_at)
+values (2, 'Lupi', now(), now());
+insert into account_user(id, name, created_at, updated_at)
+values (3, 'Eddie', now(), now());
@@ -0,0 +1,6 @@
+-- account 는 거래마다 balance 가 갱신되는 테이블
+-- 페이지에 여유 공간을 남겨 HOT(heap-only tuple) 갱신이 되도록 하고(balance 는 인덱스 컬럼이 아님),
+-- 죽은 튜플이 빨리 정리되도록 autovacuum 을 더 자주 실행
+alter table account set (fillfactor = 70, autovacuum_vacuum_scale_factor = 0.05, autovacuum_analyze_scale_factor = 0.05);
+
+-- transaction / transaction_archive 는 추가만 되므로 기본 fillfactor(100) 유지
@@ -0,0 +1,54 @@
+package com.example.account.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachedLocalDateTimeSerializerTest {
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper cachedMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .registerModule(new SimpleModule()
+                    .addSerializer(LocalDateTime.class, new CachedLocalDateTimeSerializer()));
+
+    @Test
+    @DisplayName("기본 LocalDateTime 직렬화와 같은 문자열")
+    void sameAsDefaultSerializer() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 31, 23, 59, 59);
+        int[] nanos = {0, 1, 10, 5_000, 100_000_000, 120_000_000, 123_456_789, 999_999_999};
+
+        for (int second = 0; second < 3; second++) {
+            for (int nano : nanos) {
+                LocalDateTime value = base.plusSeconds(second).withNano(nano);
+                assertEquals(defaultMapper.writeValueAsString(value),
+                        cachedMapper.writeValueAsString(value));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("4자리가 아닌 연도와 숫자 배열 형식은 기본 직렬화 사용")
+    void fallbackToDefaultSerializer() throws Exception {
+        LocalDateTime farFuture = LocalDateTime.of(10000, 1, 1, 0, 0, 0, 1);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 30);
+
+        assertEquals(defaultMapper.writeValueAsString(farFuture),
+                cachedMapper.writeValueAsString(farFuture));
+        assertEquals(
+                defaultMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .writeValueAsString(now),
+                cachedMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .writeValueAsString(now));
+    }
+}
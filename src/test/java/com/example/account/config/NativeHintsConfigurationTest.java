@@ -0,0 +1,34 @@
+package com.example.account.config;
+
+import com.example.account.dto.BulkCreateAccount;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsConfigurationTest {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsConfigurationTest() {
+        new NativeHintsConfiguration.AccountRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void flywayMigrationsInVendorDirectoriesAreIncluded() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/common/V1__init.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/h2/V2__sample_users.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/postgresql/V2__account_storage.sql").test(hints));
+    }
+
+    @Test
+    void bulkCreateResultIsRegisteredForJackson() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(BulkCreateAccount.Result.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(BulkCreateAccount.Result.class, "getAccountNumber").test(hints));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.account.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedissonPropertiesTest {
+    private static final String IDLE_SIZE_MESSAGE = "connection-minimum-idle-size must not exceed connection-pool-size";
+    private static final String TOPOLOGY_MESSAGE = "CLUSTER/SENTINEL mode requires nodes";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfiguration.class);
+
+    @EnableConfigurationProperties(RedissonProperties.class)
+    static class PropertiesConfiguration {
+    }
+
+    @Test
+    void defaultsAreValid() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            RedissonProperties properties = context.getBean(RedissonProperties.class);
+            assertEquals(RedissonProperties.Mode.SINGLE, properties.getMode());
+            assertEquals(64, properties.getConnectionPoolSize());
+        });
+    }
+
+    @Test
+    void minimumIdleSizeLargerThanPoolSizeFails() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.connection-pool-size=8",
+                        "account.redisson.connection-minimum-idle-size=16")
+                .run(context -> assertStartupFailed(context, IDLE_SIZE_MESSAGE));
+    }
+
+    @Test
+    void subscriptionMinimumIdleSizeLargerThanPoolSizeFails() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.subscription-connection-pool-size=2",
+                        "account.redisson.subscription-connection-minimum-idle-size=4")
+                .run(context -> assertStartupFailed(context, IDLE_SIZE_MESSAGE));
+    }
+
+    @Test
+    void zeroPoolSizeFails() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.connection-pool-size=0",
+                        "account.redisson.connection-minimum-idle-size=0")
+                .run(context -> assertStartupFailed(context, "connectionPoolSize"));
+    }
+
+    @Test
+    void clusterWithoutNodesFails() {
+        contextRunner.withPropertyValues("account.redisson.mode=CLUSTER")
+                .run(context -> assertStartupFailed(context, TOPOLOGY_MESSAGE));
+    }
+
+    @Test
+    void clusterWithNodesIsValid() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.mode=CLUSTER",
+                        "account.redisson.nodes=redis://redis-1:6379,redis://redis-2:6379")
+                .run(context -> {
+                    assertNull(context.getStartupFailure());
+                    assertEquals(List.of("redis://redis-1:6379", "redis://redis-2:6379"),
+                            context.getBean(RedissonProperties.class).getNodes());
+                });
+    }
+
+    @Test
+    void sentinelWithoutMasterNameFails() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.mode=SENTINEL",
+                        "account.redisson.nodes=redis://sentinel-1:26379")
+                .run(context -> assertStartupFailed(context, TOPOLOGY_MESSAGE));
+    }
+
+    @Test
+    void sentinelWithBlankMasterNameFails() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.mode=SENTINEL",
+                        "account.redisson.nodes=redis://sentinel-1:26379",
+                        "account.redisson.master-name= ")
+                .run(context -> assertStartupFailed(context, TOPOLOGY_MESSAGE));
+    }
+
+    @Test
+    void sentinelWithNodesAndMasterNameIsValid() {
+        contextRunner.withPropertyValues(
+                        "account.redisson.mode=SENTINEL",
+                        "account.redisson.nodes=redis://sentinel-1:26379",
+                        "account.redisson.master-name=account")
+                .run(context -> assertNull(context.getStartupFailure()));
+    }
+
+    private static void assertStartupFailed(AssertableApplicationContext context, String message) {
+        Throwable failure = context.getStartupFailure();
+        assertNotNull(failure);
+        // 바인딩 검증 예외(BindValidationException)의 메시지에 위반한 제약이 모두 담김
+        String cause = NestedExceptionUtils.getMostSpecificCause(failure).getMessage();
+        assertTrue(cause.contains(message), cause);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.account.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SampledDebugTurboFilterTest {
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger logger = loggerContext.getLogger("sampled");
+
+    @Test
+    @DisplayName("debug 로그는 sampleRate 건 중 1 건만 통과")
+    void sampleDebugLogs() {
+        //given
+        logger.setLevel(Level.DEBUG);
+        SampledDebugTurboFilter filter = new SampledDebugTurboFilter();
+        filter.setSampleRate(10);
+
+        //when
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(null, logger, Level.DEBUG, "debug {}", null, null) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        //then
+        assertEquals(10, passed);
+    }
+
+    @Test
+    @DisplayName("INFO 이상, 레벨 확인 호출, 꺼진 debug 로그는 샘플링하지 않음")
+    void skipNonSampledEvents() {
+        //given
+        logger.setLevel(Level.INFO);
+        SampledDebugTurboFilter filter = new SampledDebugTurboFilter();
+        filter.setSampleRate(10);
+
+        //when
+        //then
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, logger, Level.WARN, "warn", null, null));
+            assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, logger, Level.DEBUG, null, null, null));
+            assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, logger, Level.DEBUG, "debug", null, null));
+        }
+    }
+}
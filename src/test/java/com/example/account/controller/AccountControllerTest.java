@@ -1,9 +1,11 @@
 package com.example.account.controller;
 
 import com.example.account.dto.AccountDto;
+import com.example.account.dto.BulkCreateAccount;
 import com.example.account.dto.CreateAccount;
 import com.example.account.dto.DeleteAccount;
 import com.example.account.exception.AccountException;
+import com.example.account.service.AccountProvisioningService;
 import com.example.account.service.AccountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -18,11 +20,15 @@ import java.util.Arrays;
 import java.util.List;
 
 import static com.example.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.account.type.ErrorCode.USER_NOT_FOUND;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +37,9 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService; // AccountService의 모의 객체를 생성
 
+    @MockBean
+    private AccountProvisioningService accountProvisioningService;
+
     @Autowired
     private MockMvc mockMvc; // Spring MVC 동작을 모의하는 MockMvc 객체를 주입
 
@@ -126,4 +135,35 @@ class AccountControllerTest {
                 .andExpect(status().isOk());
 
     }
+
+    @Test
+    void successCreateAccountsBulk() throws Exception {
+        // given: 유효한 두 줄은 묶음으로 처리되고, 검증이나 해석에 실패한 줄은 바로 INVALID_REQUEST 로 응답
+        given(accountProvisioningService.createAccounts(anyList()))
+                .willReturn(List.of(
+                        BulkCreateAccount.Result.success(AccountDto.builder()
+                                .userId(1L)
+                                .accountNumber("1000000001")
+                                .build()),
+                        BulkCreateAccount.Result.failure(2L, USER_NOT_FOUND)));
+
+        // when & then
+        mockMvc.perform(post("/account/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("{\"userId\":1,\"initialBalance\":100}\n"
+                                + "{\"userId\":0,\"initialBalance\":100}\n"
+                                + "{\"userId\":2,\"initialBalance\":100}\n"
+                                + "{\"userId\":3,\"initialBal\n"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "{\"line\":2,\"userId\":0,\"errorCode\":\"INVALID_REQUEST\"}\n")))
+                .andExpect(content().string(containsString(
+                        "{\"line\":1,\"userId\":1,\"accountNumber\":\"1000000001\"}\n")))
+                .andExpect(content().string(containsString(
+                        "{\"line\":3,\"userId\":2,\"errorCode\":\"USER_NOT_FOUND\"}\n")))
+                .andExpect(content().string(containsString(
+                        "{\"line\":4,\"errorCode\":\"INVALID_REQUEST\"}\n")));
+    }
 }
@@ -1,10 +1,14 @@
 package com.example.account.controller;
 
 import com.example.account.dto.CancelBalance;
+import com.example.account.dto.ErrorResponse;
 import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransferBalance;
+import com.example.account.dto.TransferDto;
 import com.example.account.dto.UseBalance;
 import com.example.account.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,15 +18,17 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
+import static com.example.account.type.ErrorCode.INVALID_REQUEST;
 import static com.example.account.type.TransactionResultType.S;
-import static com.example.account.type.TransactionType.CANCEL;
-import static com.example.account.type.TransactionType.USE;
+import static com.example.account.type.TransactionType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -101,6 +107,62 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(54321));
     }
 
+    @Test
+    void successCancelBalance_cbor() throws Exception {
+        //given
+        ObjectMapper cborMapper = new CBORMapper().findAndRegisterModules();
+        given(transactionService.cancelBalance(anyString(), anyString(), anyLong()))
+                .willReturn(TransactionDto.builder()
+                        .accountNumber("1000000000")
+                        .transactedAt(LocalDateTime.now())
+                        .transactionType(CANCEL)
+                        .amount(54321L)
+                        .transactionId("transactionIdForCancel")
+                        .transactionResultType(S)
+                        .build());
+
+        //when
+        byte[] body = mockMvc.perform(post("/transaction/cancel")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(
+                                new CancelBalance.Request("transactionId",
+                                        "1000000000", 54321L)
+                        ))
+                ).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        CancelBalance.Response response =
+                cborMapper.readValue(body, CancelBalance.Response.class);
+        assertEquals("1000000000", response.getAccountNumber());
+        assertEquals(S, response.getTransactionResult());
+        assertEquals("transactionIdForCancel", response.getTransactionId());
+        assertEquals(54321L, response.getAmount());
+    }
+
+    @Test
+    void failCancelBalance_cborValidation() throws Exception {
+        //given
+        ObjectMapper cborMapper = new CBORMapper();
+
+        //when
+        byte[] body = mockMvc.perform(post("/transaction/cancel")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(
+                                new CancelBalance.Request("transactionId",
+                                        "1000000000", 1L)
+                        ))
+                ).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        //then
+        assertEquals(INVALID_REQUEST,
+                cborMapper.readValue(body, ErrorResponse.class).getErrorCode());
+    }
+
     @Test
     void successQueryTransaction() throws Exception {
         //given
@@ -125,4 +187,35 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(12345));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void successTransferBalance() throws Exception {
+        //given
+        given(transactionService.transferBalance(anyLong(), anyString(), anyString(), anyLong()))
+                .willReturn(TransferDto.builder()
+                        .fromAccountNumber("1000000000")
+                        .toAccountNumber("2000000000")
+                        .transactedAt(LocalDateTime.now())
+                        .amount(12345L)
+                        .transactionId("transactionId")
+                        .toTransactionId("toTransactionId")
+                        .transactionResultType(S)
+                        .build());
+
+        // when & then
+        mockMvc.perform(post("/transaction/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TransferBalance.Request(
+                                        1L, "1000000000", "2000000000", 12345L)
+                        ))
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromAccountNumber").value("1000000000"))
+                .andExpect(jsonPath("$.toAccountNumber").value("2000000000"))
+                .andExpect(jsonPath("$.transactionResult").value("S"))
+                .andExpect(jsonPath("$.transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.toTransactionId").value("toTransactionId"))
+                .andExpect(jsonPath("$.amount").value(12345));
+    }
+}
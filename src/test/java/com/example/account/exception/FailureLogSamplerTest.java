@@ -0,0 +1,51 @@
+package com.example.account.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.example.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FailureLogSamplerTest {
+
+    @Test
+    @DisplayName("주기 안에서는 에러 코드별 첫 실패만 기록")
+    void sampleOncePerInterval() {
+        //given
+        FailureLogSampler sampler = new FailureLogSampler(60_000L);
+
+        //when
+        //then
+        assertEquals(0, sampler.sample(AMOUNT_EXCEED_BALANCE));
+        assertEquals(-1, sampler.sample(AMOUNT_EXCEED_BALANCE));
+        assertEquals(-1, sampler.sample(AMOUNT_EXCEED_BALANCE));
+        // 다른 에러 코드는 별도로 샘플링
+        assertEquals(0, sampler.sample(ACCOUNT_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("다음 주기의 로그에 생략된 건수 포함")
+    void reportSuppressedCount() throws InterruptedException {
+        //given
+        FailureLogSampler sampler = new FailureLogSampler(10L);
+        sampler.sample(AMOUNT_EXCEED_BALANCE);
+        sampler.sample(AMOUNT_EXCEED_BALANCE);
+        sampler.sample(AMOUNT_EXCEED_BALANCE);
+
+        //when
+        Thread.sleep(20L);
+
+        //then
+        assertEquals(2, sampler.sample(AMOUNT_EXCEED_BALANCE));
+    }
+
+    @Test
+    @DisplayName("업무 규칙 실패 예외는 스택 트레이스를 만들지 않음")
+    void accountExceptionIsStackless() {
+        AccountException exception = new AccountException(AMOUNT_EXCEED_BALANCE);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(AMOUNT_EXCEED_BALANCE.getDescription(), exception.getMessage());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.account.type.ErrorCode.TRANSACTION_OVERLOADED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountAdmissionControlTest {
+
+    @Test
+    void hotAccountIsRejectedWithoutAffectingOthers() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountAdmissionControl admissionControl = new AccountAdmissionControl(meterRegistry, 10, 2);
+        admissionControl.acquire("1000000000");
+        admissionControl.acquire("1000000000");
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> admissionControl.acquire("1000000000"));
+        admissionControl.acquire("1000000001");
+
+        //then
+        assertEquals(TRANSACTION_OVERLOADED, exception.getErrorCode());
+        assertEquals(3, meterRegistry.get("account.admission.in-flight").gauge().value());
+        assertEquals(1, meterRegistry.get("account.admission.rejected")
+                .tag("limit", "account").functionCounter().count());
+    }
+
+    @Test
+    void globalLimitRejectsAcrossAccounts() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountAdmissionControl admissionControl = new AccountAdmissionControl(meterRegistry, 2, 2);
+        admissionControl.acquire("1000000000");
+        admissionControl.acquire("1000000001");
+
+        //when
+        assertThrows(AccountException.class, () -> admissionControl.acquire("1000000002"));
+        admissionControl.release("1000000000");
+        admissionControl.acquire("1000000002");
+
+        //then
+        assertEquals(1, meterRegistry.get("account.admission.rejected")
+                .tag("limit", "global").functionCounter().count());
+        assertEquals(2, meterRegistry.get("account.admission.busy-accounts").gauge().value());
+    }
+
+    @Test
+    void acquireAllIsAllOrNothing() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountAdmissionControl admissionControl = new AccountAdmissionControl(meterRegistry, 10, 1);
+        admissionControl.acquire("2000000000");
+
+        //when
+        assertThrows(AccountException.class,
+                () -> admissionControl.acquireAll(List.of("1000000000", "2000000000")));
+
+        //then: 먼저 허용된 1000000000 도 되돌려짐
+        assertEquals(1, meterRegistry.get("account.admission.in-flight").gauge().value());
+        admissionControl.acquireAll(List.of("1000000000", "3000000000"));
+        admissionControl.releaseAll(List.of("1000000000", "3000000000"));
+        admissionControl.release("2000000000");
+        assertEquals(0, meterRegistry.get("account.admission.in-flight").gauge().value());
+        assertEquals(0, meterRegistry.get("account.admission.busy-accounts").gauge().value());
+    }
+}
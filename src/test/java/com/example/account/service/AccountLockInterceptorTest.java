@@ -0,0 +1,362 @@
+package com.example.account.service;
+
+import com.example.account.aop.AccountLock;
+import com.example.account.aop.MultiAccountLock;
+import com.example.account.dto.TransferBalance;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static com.example.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static com.example.account.type.ErrorCode.RATE_LIMIT_EXCEEDED;
+import static com.example.account.type.ErrorCode.TRANSACTION_OVERLOADED;
+import static com.example.account.type.ErrorCode.UNSUPPORTED_IN_BALANCE_ENGINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLockInterceptorTest {
+    @Mock
+    private LockService lockService;
+
+    @Mock
+    private AccountOperationQueue accountOperationQueue;
+
+    @Mock
+    private AccountAdmissionControl accountAdmissionControl;
+
+    @Mock
+    private AccountRateLimiter accountRateLimiter;
+
+    @Mock
+    private BalanceEngine balanceEngine;
+
+    @Mock
+    private MethodInvocation methodInvocation;
+
+    @InjectMocks
+    private AccountLockInterceptor accountLockInterceptor;
+
+    @Test
+    void lockAndUnlock() throws Throwable {
+        //given
+        ArgumentCaptor<String> lockArgumentCaptor =
+                ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> unLockArgumentCaptor =
+                ArgumentCaptor.forClass(String.class);
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+
+
+        //when
+        accountLockInterceptor.invoke(methodInvocation);
+        //then
+        verify(lockService, times(1)).lock(lockArgumentCaptor.capture());
+        verify(lockService, times(1)).unlock(unLockArgumentCaptor.capture());
+
+        assertEquals("1234", lockArgumentCaptor.getValue());
+        assertEquals("1234", unLockArgumentCaptor.getValue());
+    }
+
+    @Test
+    void lockAndUnlock_evenIfThrow() throws Throwable {
+        //given
+        ArgumentCaptor<String> lockArgumentCaptor =
+                ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> unLockArgumentCaptor =
+                ArgumentCaptor.forClass(String.class);
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "54321", 1000L);
+        givenInvocation("use", request);
+        given(methodInvocation.proceed())
+                .willThrow(new AccountException(ACCOUNT_NOT_FOUND));
+
+
+        //when
+        assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation)
+        );
+        
+        //then
+        verify(lockService, times(1)).lock(lockArgumentCaptor.capture());
+        verify(lockService, times(1)).unlock(unLockArgumentCaptor.capture());
+
+        assertEquals("54321", lockArgumentCaptor.getValue());
+        assertEquals("54321", unLockArgumentCaptor.getValue());
+    }
+
+    @Test
+    void releaseAdmissionEvenIfThrow() throws Throwable {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "54321", 1000L);
+        givenInvocation("use", request);
+        given(methodInvocation.proceed())
+                .willThrow(new AccountException(ACCOUNT_NOT_FOUND));
+
+        //when
+        assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        verify(accountAdmissionControl, times(1)).acquire("54321");
+        verify(accountAdmissionControl, times(1)).release("54321");
+    }
+
+    @Test
+    void overloadedRequestSkipsLock() throws Throwable {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        willThrow(new AccountException(TRANSACTION_OVERLOADED))
+                .given(accountAdmissionControl).acquire("1234");
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        assertEquals(TRANSACTION_OVERLOADED, exception.getErrorCode());
+        verify(lockService, never()).lock(anyString());
+        verify(accountAdmissionControl, never()).release(anyString());
+        verify(methodInvocation, never()).proceed();
+    }
+
+    @Test
+    void rateLimitedRequestSkipsAdmissionAndLock() throws Throwable {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        willThrow(new AccountException(RATE_LIMIT_EXCEEDED))
+                .given(accountRateLimiter).acquire(123L, "1234");
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        assertEquals(RATE_LIMIT_EXCEEDED, exception.getErrorCode());
+        verify(accountAdmissionControl, never()).acquire(anyString());
+        verify(lockService, never()).lock(anyString());
+        verify(methodInvocation, never()).proceed();
+    }
+
+    @Test
+    void queueModeSkipsLock() throws Throwable {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        given(accountOperationQueue.isEnabled()).willReturn(true);
+        given(accountOperationQueue.submit(anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture("result"));
+
+        //when
+        Object result = accountLockInterceptor.invoke(methodInvocation);
+
+        //then
+        assertEquals("result", result);
+        verify(lockService, never()).lock(anyString());
+        verify(lockService, never()).unlock(anyString());
+    }
+
+    @Test
+    void queueModeRethrowsOperationException() {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        given(accountOperationQueue.isEnabled()).willReturn(true);
+        given(accountOperationQueue.submit(anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(
+                        new AccountException(ACCOUNT_NOT_FOUND)));
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    void queueTimeoutIsRejectedAsOverloaded() {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        given(accountOperationQueue.isEnabled()).willReturn(true);
+        given(accountOperationQueue.submit(anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        assertEquals(TRANSACTION_OVERLOADED, exception.getErrorCode());
+        verify(accountAdmissionControl, times(1)).release("1234");
+    }
+
+    @Test
+    void balanceEngineModeSkipsLockAndQueue() throws Throwable {
+        //given
+        UseBalance.Request request =
+                new UseBalance.Request(123L, "1234", 1000L);
+        givenInvocation("use", request);
+        given(balanceEngine.isEnabled()).willReturn(true);
+        given(methodInvocation.proceed()).willReturn("result");
+
+        //when
+        Object result = accountLockInterceptor.invoke(methodInvocation);
+
+        //then
+        assertEquals("result", result);
+        verify(accountRateLimiter, times(1)).acquire(123L, "1234");
+        verify(accountAdmissionControl, times(1)).release("1234");
+        verify(lockService, never()).lock(anyString());
+        verify(accountOperationQueue, never()).submit(anyString(), any());
+    }
+
+    @Test
+    void multiLockRejectedInBalanceEngineMode() throws Throwable {
+        //given
+        TransferBalance.Request request =
+                new TransferBalance.Request(123L, "1000000000", "2000000000", 1000L);
+        givenInvocation("transfer", request);
+        given(balanceEngine.isEnabled()).willReturn(true);
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        assertEquals(UNSUPPORTED_IN_BALANCE_ENGINE, exception.getErrorCode());
+        verify(lockService, never()).lockAll(any());
+        verify(methodInvocation, never()).proceed();
+    }
+
+    @Test
+    void multiLockAndUnlock_evenIfThrow() throws Throwable {
+        //given
+        List<String> accountNumbers = List.of("1000000000", "2000000000");
+        TransferBalance.Request request =
+                new TransferBalance.Request(123L, "1000000000", "2000000000", 1000L);
+        givenInvocation("transfer", request);
+        given(methodInvocation.proceed())
+                .willThrow(new AccountException(ACCOUNT_NOT_FOUND));
+
+        //when
+        assertThrows(AccountException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        verify(lockService, times(1)).lockAll(accountNumbers);
+        verify(lockService, times(1)).unlockAll(accountNumbers);
+        verify(accountAdmissionControl, times(1)).releaseAll(accountNumbers);
+    }
+
+    @Test
+    void releaseAdmissionEvenIfUnlockAllThrows() throws Throwable {
+        //given
+        List<String> accountNumbers = List.of("1000000000", "2000000000");
+        TransferBalance.Request request =
+                new TransferBalance.Request(123L, "1000000000", "2000000000", 1000L);
+        givenInvocation("transfer", request);
+        willThrow(new IllegalMonitorStateException())
+                .given(lockService).unlockAll(accountNumbers);
+
+        //when
+        assertThrows(IllegalMonitorStateException.class,
+                () -> accountLockInterceptor.invoke(methodInvocation));
+
+        //then
+        verify(accountAdmissionControl, times(1)).releaseAll(accountNumbers);
+    }
+
+    @Test
+    void multiLockUsesAccountLocksInQueueMode() throws Throwable {
+        //given
+        List<String> accountNumbers = List.of("1000000000", "2000000000");
+        TransferBalance.Request request =
+                new TransferBalance.Request(123L, "1000000000", "2000000000", 1000L);
+        givenInvocation("transfer", request);
+        // 여러 계좌 거래는 큐 모드 여부와 관계없이 lock 으로 처리
+        lenient().when(accountOperationQueue.isEnabled()).thenReturn(true);
+        given(methodInvocation.proceed()).willReturn("result");
+
+        //when
+        Object result = accountLockInterceptor.invoke(methodInvocation);
+
+        //then
+        assertEquals("result", result);
+        verify(lockService, times(1)).lockAll(accountNumbers);
+        verify(lockService, times(1)).unlockAll(accountNumbers);
+        verify(accountOperationQueue, never()).submit(anyString(), any());
+    }
+
+    @Test
+    void resolveLockMethods() throws NoSuchMethodException {
+        assertTrue(AccountLockInterceptor.isLockMethod(
+                LockedHandler.class.getMethod("use", UseBalance.Request.class)));
+        assertTrue(AccountLockInterceptor.isLockMethod(
+                LockedHandler.class.getMethod("transfer", TransferBalance.Request.class)));
+        assertFalse(AccountLockInterceptor.isLockMethod(
+                LockedHandler.class.getMethod("query", String.class)));
+    }
+
+    @Test
+    void lockMethodWithoutLockIdParameterFails() throws NoSuchMethodException {
+        Method method = LockedHandler.class.getMethod("invalid", String.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> AccountLockInterceptor.isLockMethod(method));
+    }
+
+    private void givenInvocation(String methodName, Object request) throws NoSuchMethodException {
+        given(methodInvocation.getMethod())
+                .willReturn(LockedHandler.class.getMethod(methodName, request.getClass()));
+        given(methodInvocation.getArguments()).willReturn(new Object[]{request});
+    }
+
+    static class LockedHandler {
+        @AccountLock
+        public void use(UseBalance.Request request) {
+        }
+
+        @MultiAccountLock
+        public void transfer(TransferBalance.Request request) {
+        }
+
+        public void query(String transactionId) {
+        }
+
+        @AccountLock
+        public void invalid(String accountNumber) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.account.service;
+
+import com.example.account.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberBlockAllocatorTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong nextAccountNumber;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountNumberBlockAllocator allocator;
+
+    @Test
+    void startsFromBlockRangeAndSkipsUsedNumbers() {
+        //given
+        given(redissonClient.getAtomicLong("ACNO:next")).willReturn(nextAccountNumber);
+        given(nextAccountNumber.isExists()).willReturn(false);
+        given(nextAccountNumber.addAndGet(3)).willReturn(9_000_000_003L);
+        given(nextAccountNumber.addAndGet(1)).willReturn(9_000_000_004L);
+        given(accountRepository.findAccountNumbersBetween("9000000000", "9000000002"))
+                .willReturn(List.of("9000000001"));
+        given(accountRepository.findAccountNumbersBetween("9000000003", "9000000003"))
+                .willReturn(List.of());
+
+        //when
+        List<String> accountNumbers = allocator.allocate(3);
+
+        //then
+        verify(nextAccountNumber).compareAndSet(0, AccountNumberBlockAllocator.BLOCK_ACCOUNT_NUMBER_FROM);
+        assertEquals(List.of("9000000000", "9000000002", "9000000003"), accountNumbers);
+    }
+
+    @Test
+    void failsWhenBlockRangeIsExhausted() {
+        //given
+        given(redissonClient.getAtomicLong("ACNO:next")).willReturn(nextAccountNumber);
+        given(nextAccountNumber.isExists()).willReturn(true);
+        given(nextAccountNumber.addAndGet(2)).willReturn(10_000_000_001L);
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(2));
+    }
+}
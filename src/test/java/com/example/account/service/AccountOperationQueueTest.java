@@ -0,0 +1,200 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
+import static com.example.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountOperationQueueTest {
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private LockService lockService;
+
+    private AccountOperationQueue accountOperationQueue;
+
+    @BeforeEach
+    void setUp() {
+        accountOperationQueue = new AccountOperationQueue(transactionManager, lockService, true, 32, 2, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountOperationQueue.shutdown();
+    }
+
+    @Test
+    void operationsForSameAccountRunInOrder() throws InterruptedException {
+        //given
+        given(transactionManager.getTransaction(any()))
+                .willAnswer(invocation -> new SimpleTransactionStatus());
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<Integer> executed = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        //when
+        futures.add(accountOperationQueue.submit("1000000000", () -> {
+            blocker.await();
+            executed.add(0);
+            return 0;
+        }));
+        for (int i = 1; i < 10; i++) {
+            int order = i;
+            futures.add(accountOperationQueue.submit("1000000000", () -> {
+                executed.add(order);
+                return order;
+            }));
+        }
+        blocker.countDown();
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, futures.get(i).join());
+        }
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), executed);
+    }
+
+    @Test
+    void failedOperationDoesNotAffectOthersInBatch() {
+        //given
+        given(transactionManager.getTransaction(any()))
+                .willAnswer(invocation -> new SimpleTransactionStatus());
+        CountDownLatch blocker = new CountDownLatch(1);
+
+        //when
+        CompletableFuture<String> first = accountOperationQueue.submit("1000000000", () -> {
+            blocker.await();
+            return "first";
+        });
+        CompletableFuture<String> failed = accountOperationQueue.submit("1000000000", () -> {
+            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        });
+        CompletableFuture<String> last = accountOperationQueue.submit("1000000000", () -> "last");
+        blocker.countDown();
+
+        //then
+        assertEquals("first", first.join());
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertEquals(AMOUNT_EXCEED_BALANCE,
+                ((AccountException) exception.getCause()).getErrorCode());
+        assertEquals("last", last.join());
+    }
+
+    @Test
+    void batchRunsUnderAccountLock() throws InterruptedException {
+        //given
+        List<String> events = new ArrayList<>();
+        willAnswer(invocation -> events.add("lock")).given(lockService).lock("1000000000");
+        willAnswer(invocation -> events.add("unlock")).given(lockService).unlock("1000000000");
+
+        //when
+        String result = accountOperationQueue.submit("1000000000", () -> {
+            events.add("operation");
+            return "result";
+        }).join();
+
+        //then
+        assertEquals("result", result);
+        assertEquals(List.of("lock", "operation", "unlock"), events);
+    }
+
+    @Test
+    void operationsFailWhenAccountLockIsNotAcquired() throws InterruptedException {
+        //given
+        willThrow(new AccountException(ACCOUNT_TRANSACTION_LOCK)).given(lockService).lock("1000000000");
+
+        //when
+        CompletableFuture<String> future = accountOperationQueue.submit("1000000000", () -> "result");
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertEquals(ACCOUNT_TRANSACTION_LOCK,
+                ((AccountException) exception.getCause()).getErrorCode());
+        verify(lockService, never()).unlock(anyString());
+    }
+
+    @Test
+    void timedOutOperationIsNotExecuted() throws InterruptedException {
+        //given
+        AccountOperationQueue queue = new AccountOperationQueue(transactionManager, lockService, true, 32, 2, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        try {
+            //when
+            CompletableFuture<String> first = queue.submit("1000000000", () -> {
+                started.countDown();
+                blocker.await();
+                return "first";
+            });
+            started.await();
+            CompletableFuture<String> timedOut = queue.submit("1000000000", () -> {
+                executed.set(true);
+                return "timedOut";
+            });
+            CompletionException exception = assertThrows(CompletionException.class, timedOut::join);
+            blocker.countDown();
+
+            //then
+            assertInstanceOf(TimeoutException.class, exception.getCause());
+            assertThrows(CompletionException.class, first::join);
+            assertEquals("next", queue.submit("1000000000", () -> "next").join());
+            assertFalse(executed.get());
+        } finally {
+            blocker.countDown();
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void submitAfterShutdownFailsInsteadOfHanging() {
+        //given
+        accountOperationQueue.shutdown();
+
+        //when
+        CompletableFuture<String> first = accountOperationQueue.submit("1000000000", () -> "first");
+        CompletableFuture<String> second = accountOperationQueue.submit("1000000000", () -> "second");
+
+        //then
+        CompletionException exception = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    void submitFailsWhenDisabled() {
+        AccountOperationQueue disabled =
+                new AccountOperationQueue(transactionManager, lockService, false, 32, 2, 5000);
+
+        assertThrows(IllegalStateException.class,
+                () -> disabled.submit("1000000000", () -> "result"));
+    }
+}
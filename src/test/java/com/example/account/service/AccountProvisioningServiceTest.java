@@ -0,0 +1,128 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.dto.BulkCreateAccount;
+import com.example.account.dto.CreateAccount;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.example.account.type.ErrorCode.MAX_ACCOUNT_PER_USER_10;
+import static com.example.account.type.ErrorCode.USER_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountProvisioningServiceTest {
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private AccountNumberBlockAllocator accountNumberBlockAllocator;
+
+    @InjectMocks
+    private AccountProvisioningService accountProvisioningService;
+
+    @Test
+    @DisplayName("대량 계좌 생성 - 계좌번호 블록을 한 번 할당하고 한 번에 저장")
+    void createAccountsSuccess() {
+        //given
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(12L);
+        given(accountUserRepository.findAllById(any()))
+                .willReturn(List.of(user));
+        given(accountRepository.countGroupByAccountUserIds(any()))
+                .willReturn(List.of());
+        given(accountNumberBlockAllocator.allocate(2))
+                .willReturn(List.of("9000000020", "9000000022"));
+        ArgumentCaptor<List<Account>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        List<BulkCreateAccount.Result> results = accountProvisioningService.createAccounts(List.of(
+                new CreateAccount.Request(12L, 1000L),
+                new CreateAccount.Request(12L, 2000L)));
+
+        //then
+        verify(accountRepository, times(1)).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("9000000020", results.get(0).getAccountNumber());
+        assertEquals("9000000022", results.get(1).getAccountNumber());
+        assertEquals(2000L, captor.getValue().get(1).getBalance());
+        assertNull(results.get(0).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("대량 계좌 생성 - 없는 사용자, 사용자당 10개 초과는 해당 요청만 실패")
+    void createAccountsPartialFailure() {
+        //given
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(12L);
+        given(accountUserRepository.findAllById(any()))
+                .willReturn(List.of(user));
+        given(accountRepository.countGroupByAccountUserIds(any()))
+                .willReturn(List.of(accountCount(12L, 9L)));
+        given(accountNumberBlockAllocator.allocate(1))
+                .willReturn(List.of("9000000020"));
+
+        //when
+        List<BulkCreateAccount.Result> results = accountProvisioningService.createAccounts(List.of(
+                new CreateAccount.Request(12L, 1000L),
+                new CreateAccount.Request(12L, 1000L),
+                new CreateAccount.Request(13L, 1000L)));
+
+        //then
+        assertEquals("9000000020", results.get(0).getAccountNumber());
+        assertEquals(MAX_ACCOUNT_PER_USER_10, results.get(1).getErrorCode());
+        assertEquals(USER_NOT_FOUND, results.get(2).getErrorCode());
+        assertEquals(13L, results.get(2).getUserId());
+    }
+
+    @Test
+    @DisplayName("대량 계좌 생성 - 모두 실패하면 계좌번호를 할당하지 않음")
+    void createAccountsAllFailed() {
+        //given
+        given(accountUserRepository.findAllById(any()))
+                .willReturn(List.of());
+
+        //when
+        List<BulkCreateAccount.Result> results = accountProvisioningService.createAccounts(List.of(
+                new CreateAccount.Request(13L, 1000L)));
+
+        //then
+        assertEquals(USER_NOT_FOUND, results.get(0).getErrorCode());
+        verify(accountNumberBlockAllocator, never()).allocate(anyInt());
+        verify(accountRepository, never()).saveAll(any());
+    }
+
+    private static AccountRepository.AccountCountByUser accountCount(Long userId, Long accountCount) {
+        return new AccountRepository.AccountCountByUser() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getAccountCount() {
+                return accountCount;
+            }
+        };
+    }
+}
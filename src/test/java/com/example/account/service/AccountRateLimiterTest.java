@@ -0,0 +1,165 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.account.type.ErrorCode.RATE_LIMIT_EXCEEDED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AccountRateLimiterTest {
+
+    @Test
+    void rejectsAfterBurstPerAccount() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountRateLimiter rateLimiter = localRateLimiter(meterRegistry, 1, 100, 1, 3);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire(null, "1000000000");
+        }
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> rateLimiter.acquire(null, "1000000000"));
+
+        //then
+        assertEquals(RATE_LIMIT_EXCEEDED, exception.getErrorCode());
+        assertDoesNotThrow(() -> rateLimiter.acquire(null, "1000000001"));
+        assertEquals(1, meterRegistry.get("account.rate-limit.rejected")
+                .tag("key", "account").functionCounter().count());
+    }
+
+    @Test
+    void rejectsAfterBurstPerUserAcrossAccounts() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountRateLimiter rateLimiter = localRateLimiter(meterRegistry, 1, 2, 100, 100);
+        rateLimiter.acquire(12L, "1000000000");
+        rateLimiter.acquireAll(12L, List.of("1000000001", "1000000002"));
+
+        //when
+        assertThrows(AccountException.class, () -> rateLimiter.acquire(12L, "1000000003"));
+
+        //then
+        assertDoesNotThrow(() -> rateLimiter.acquire(13L, "1000000003"));
+        assertEquals(1, meterRegistry.get("account.rate-limit.rejected")
+                .tag("key", "user").functionCounter().count());
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        //given
+        AccountRateLimiter rateLimiter = localRateLimiter(new SimpleMeterRegistry(), 100, 100, 100, 1);
+        rateLimiter.acquire(null, "1000000000");
+        assertThrows(AccountException.class, () -> rateLimiter.acquire(null, "1000000000"));
+
+        //when
+        Thread.sleep(50L);
+
+        //then
+        assertDoesNotThrow(() -> rateLimiter.acquire(null, "1000000000"));
+    }
+
+    @Test
+    void disabledLimiterAllowsAll() {
+        //given
+        AccountRateLimiter rateLimiter = new AccountRateLimiter(null, new SimpleMeterRegistry(),
+                false, AccountRateLimiter.Store.LOCAL, 1, 1, 1, 1, 100);
+
+        //when
+        //then
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire(12L, "1000000000");
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class,
+                () -> localRateLimiter(meterRegistry, 0, 40, 20, 40));
+        assertThrows(IllegalArgumentException.class,
+                () -> localRateLimiter(meterRegistry, 20, 40, 20, 0));
+    }
+
+    @Test
+    void redisStoreSendsOnlyTryAcquirePerRequest() throws InterruptedException {
+        //given
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RRateLimiter redisLimiter = mock(RRateLimiter.class);
+        given(redissonClient.getRateLimiter("ACRL:account:1000000000")).willReturn(redisLimiter);
+        given(redisLimiter.tryAcquire()).willReturn(true);
+        // 계좌 버킷: 초당 10개, burst 1 -> 다시 차는 시간 100ms, 만료 200ms
+        AccountRateLimiter rateLimiter = new AccountRateLimiter(redissonClient, new SimpleMeterRegistry(),
+                true, AccountRateLimiter.Store.REDIS, 20, 40, 10, 1, 100);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(null, "1000000000");
+        }
+
+        //then
+        verify(redisLimiter, times(5)).tryAcquire();
+        // 설정과 만료는 처음 한 번만 전송하고, 요청마다 만료를 늦추지 않음
+        verify(redisLimiter, times(1)).trySetRate(RateType.OVERALL, 1L, 100L, RateIntervalUnit.MILLISECONDS);
+        verify(redisLimiter, times(1)).expire(200L, TimeUnit.MILLISECONDS);
+        verify(redisLimiter, never()).expireAsync(anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // 다시 차는 시간이 지난 뒤 첫 요청에서만 만료를 늦춤
+        Thread.sleep(120L);
+        rateLimiter.acquire(null, "1000000000");
+        rateLimiter.acquire(null, "1000000000");
+        verify(redisLimiter, times(1)).expireAsync(200L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void redisStoreReinitializesExpiredBucket() {
+        //given
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RRateLimiter redisLimiter = mock(RRateLimiter.class);
+        given(redissonClient.getRateLimiter("ACRL:account:1000000000")).willReturn(redisLimiter);
+        AccountRateLimiter rateLimiter = new AccountRateLimiter(redissonClient, new SimpleMeterRegistry(),
+                true, AccountRateLimiter.Store.REDIS, 20, 40, 10, 1, 100);
+        given(redisLimiter.tryAcquire()).willReturn(true);
+        rateLimiter.acquire(null, "1000000000");
+        // 만료로 설정까지 지워진 버킷
+        given(redisLimiter.tryAcquire())
+                .willThrow(new RedisException("RateLimiter is not initialized"))
+                .willReturn(true);
+
+        //when
+        rateLimiter.acquire(null, "1000000000");
+
+        //then
+        verify(redisLimiter, times(2)).trySetRate(RateType.OVERALL, 1L, 100L, RateIntervalUnit.MILLISECONDS);
+        verify(redisLimiter, times(2)).expire(200L, TimeUnit.MILLISECONDS);
+    }
+
+    private static AccountRateLimiter localRateLimiter(
+            SimpleMeterRegistry meterRegistry,
+            long userPermitsPerSecond, long userBurst,
+            long accountPermitsPerSecond, long accountBurst
+    ) {
+        return new AccountRateLimiter(null, meterRegistry, true, AccountRateLimiter.Store.LOCAL,
+                userPermitsPerSecond, userBurst, accountPermitsPerSecond, accountBurst, 100);
+    }
+}
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -43,6 +44,9 @@ class AccountServiceTest {
     @Mock
     private AccountNumberGenerator accountNumberGenerator;
 
+    @Mock
+    private BalanceEngine balanceEngine;
+
     @InjectMocks
     private AccountService accountService; // AccountService에 모의 객체를 주입하며, 여기서 AccountService는 테스트 대상
 
@@ -148,6 +152,33 @@ class AccountServiceTest {
         assertEquals(UNREGISTERED, captor.getValue().getAccountStatus());
     }
 
+    @Test
+    @DisplayName("잔액 엔진 모드 - 계좌 해지는 엔진이 처리")
+    void deleteAccount_balanceEngine() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        AccountDto engineResult = AccountDto.builder()
+                .userId(12L)
+                .accountNumber("1000000012")
+                .unRegisteredAt(LocalDateTime.now())
+                .build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(balanceEngine.isEnabled()).willReturn(true);
+        given(balanceEngine.unregister(12L, "1000000012"))
+                .willReturn(engineResult);
+
+        //when
+        AccountDto accountDto = accountService.deleteAccount(12L, "1000000012");
+
+        //then
+        assertEquals(engineResult, accountDto);
+        verify(accountRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("해당 유저 없음 - 계좌 해지 실패")
     void deleteAccountFailed_UserNotFount() {
@@ -0,0 +1,268 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.account.type.AccountStatus.IN_USE;
+import static com.example.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static com.example.account.type.ErrorCode.BALANCE_NOT_EMPTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BalanceEngineTest {
+    private static final int SHARDS = 4;
+
+    @TempDir
+    Path walDirectory;
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountUserRepository accountUserRepository = mock(AccountUserRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionIdIndex transactionIdIndex = mock(TransactionIdIndex.class);
+    private final RedissonClient redissonClient = mock(RedissonClient.class);
+    private final RLock engineLock = mock(RLock.class);
+    private final Map<String, Account> accounts = new HashMap<>();
+    private final ConcurrentMap<String, List<String>> loadingThreads = new ConcurrentHashMap<>();
+    private final List<String> savedTransactionIds = new CopyOnWriteArrayList<>();
+    private BalanceEngine balanceEngine;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getLock("ACENGINE")).willReturn(engineLock);
+        given(engineLock.tryLock()).willReturn(true);
+        given(accountRepository.findByAccountNumber(anyString())).willAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            loadingThreads.computeIfAbsent(accountNumber, key -> new ArrayList<>())
+                    .add(Thread.currentThread().getName());
+            return Optional.ofNullable(accounts.get(accountNumber));
+        });
+        given(transactionRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Transaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> savedTransactionIds.add(transaction.getTransactionId()));
+            return transactions;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (balanceEngine != null) {
+            balanceEngine.stop();
+        }
+    }
+
+    @Test
+    void accountIsAlwaysProcessedOnItsShardThread() throws Exception {
+        //given
+        for (int i = 0; i < 20; i++) {
+            givenAccount((long) i + 1, String.valueOf(1000000000L + i * 7919L), 10000L);
+        }
+        balanceEngine = startEngine();
+        List<String> accountNumbers = new ArrayList<>(accounts.keySet());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<TransactionDto>> results = new ArrayList<>();
+        try {
+            for (int round = 0; round < 10; round++) {
+                for (String accountNumber : accountNumbers) {
+                    results.add(executor.submit(() -> balanceEngine.useBalance(
+                            ownerOf(accountNumber), accountNumber, 100L)));
+                }
+            }
+            for (Future<TransactionDto> result : results) {
+                assertNotNull(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        balanceEngine.stop();
+
+        //then
+        for (String accountNumber : accountNumbers) {
+            // 계좌는 자기 샤드 스레드에서 한 번만 읽어 와 메모리에 둠
+            assertEquals(List.of("balance-engine-shard-" + Math.floorMod(accountNumber.hashCode(), SHARDS)),
+                    loadingThreads.get(accountNumber));
+        }
+        // 각 WAL 에는 자기 샤드 계좌의 레코드만 있고, 계좌별 잔액이 빠짐없이 이어짐
+        Map<Long, Long> lastBalances = new HashMap<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Files.deleteIfExists(walDirectory.resolve("shard-" + shard + ".checkpoint"));
+            try (BalanceJournal journal = new BalanceJournal(walDirectory, shard, 1)) {
+                for (BalanceJournal.Entry entry : journal.recover()) {
+                    Account account = accountById(entry.accountId());
+                    assertEquals(shard, Math.floorMod(account.getAccountNumber().hashCode(), SHARDS));
+                    long previous = lastBalances.getOrDefault(entry.accountId(), 10000L);
+                    assertEquals(previous - 100L, entry.balanceSnapShot());
+                    lastBalances.put(entry.accountId(), entry.balanceSnapShot());
+                }
+            }
+        }
+        assertEquals(20, lastBalances.size());
+        lastBalances.values().forEach(balance -> assertEquals(9000L, balance));
+    }
+
+    @Test
+    void memoryBalanceIsValidatedAndFedToDatabase() {
+        //given
+        givenAccount(1L, "1000000012", 1000L);
+        balanceEngine = startEngine();
+
+        //when
+        TransactionDto used = balanceEngine.useBalance(12L, "1000000012", 700L);
+        AccountException exceeded = assertThrows(AccountException.class,
+                () -> balanceEngine.useBalance(12L, "1000000012", 700L));
+        AccountException notEmpty = assertThrows(AccountException.class,
+                () -> balanceEngine.unregister(12L, "1000000012"));
+
+        //then
+        assertEquals(300L, used.getBalanceSnapShot());
+        assertEquals(AMOUNT_EXCEED_BALANCE, exceeded.getErrorCode());
+        assertEquals(BALANCE_NOT_EMPTY, notEmpty.getErrorCode());
+        awaitSaved(1);
+        assertEquals(List.of(used.getTransactionId()), savedTransactionIds);
+        verify(accountRepository, times(1)).findByAccountNumber("1000000012");
+    }
+
+    @Test
+    void uncheckpointedJournalIsReplayedOnStart() throws IOException {
+        //given
+        givenAccount(1L, "1000000012", 10000L);
+        String transactionId = TransactionService.newTransactionId();
+        try (BalanceJournal journal = new BalanceJournal(walDirectory,
+                Math.floorMod("1000000012".hashCode(), SHARDS), 8)) {
+            journal.recover();
+            journal.append(new BalanceJournal.Entry(1L, BalanceJournal.Kind.USE, 1L, 1000L, 9000L,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS), transactionId));
+            journal.commit();
+        }
+
+        //when
+        balanceEngine = startEngine();
+        BalanceEngine.PendingTransaction replayed = balanceEngine.findPending(transactionId);
+        TransactionDto used = balanceEngine.useBalance(12L, "1000000012", 500L);
+
+        //then
+        assertNotNull(replayed);
+        // DB 잔액(10000)이 아니라 WAL 에 남은 잔액(9000)에서 이어서 처리
+        assertEquals(8500L, used.getBalanceSnapShot());
+        assertNull(loadingThreads.get("1000000012"));
+        awaitSaved(2);
+        assertEquals(List.of(transactionId, used.getTransactionId()), savedTransactionIds);
+        verify(transactionRepository, times(1)).findByTransactionId(transactionId);
+    }
+
+    @Test
+    void pendingTransactionIsRemovedAfterFeed() {
+        //given
+        givenAccount(1L, "1000000012", 1000L);
+        balanceEngine = startEngine();
+
+        //when
+        TransactionDto used = balanceEngine.useBalance(12L, "1000000012", 100L);
+
+        //then
+        awaitSaved(1);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (balanceEngine.findPending(used.getTransactionId()) != null
+                && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertNull(balanceEngine.findPending(used.getTransactionId()));
+    }
+
+    @Test
+    void secondInstanceFailsToStart() {
+        //given
+        given(engineLock.tryLock()).willReturn(false);
+
+        //when
+        BalanceEngine engine = newEngine();
+
+        //then
+        assertThrows(IllegalStateException.class, engine::start);
+    }
+
+    private BalanceEngine startEngine() {
+        BalanceEngine engine = newEngine();
+        engine.start();
+        return engine;
+    }
+
+    private BalanceEngine newEngine() {
+        return new BalanceEngine(accountRepository, accountUserRepository, transactionRepository,
+                transactionIdIndex, redissonClient, mock(PlatformTransactionManager.class),
+                true, SHARDS, walDirectory.toString(), 32, 1000, 5000, 100, 1L << 26);
+    }
+
+    private Account givenAccount(long id, String accountNumber, long balance) {
+        AccountUser user = AccountUser.builder().name("Pobi").build();
+        user.setId(id + 11L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountNumber(accountNumber)
+                .accountStatus(IN_USE)
+                .balance(balance)
+                .build();
+        account.setId(id);
+        accounts.put(accountNumber, account);
+        given(accountRepository.findById(id)).willReturn(Optional.of(account));
+        return account;
+    }
+
+    private void awaitSaved(int count) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (savedTransactionIds.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(count, savedTransactionIds.size());
+    }
+
+    private Long ownerOf(String accountNumber) {
+        return accounts.get(accountNumber).getAccountUser().getId();
+    }
+
+    private Account accountById(long id) {
+        return accounts.values().stream()
+                .filter(account -> account.getId() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.account.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BalanceJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverCommittedEntries() throws IOException {
+        //given
+        List<BalanceJournal.Entry> entries = List.of(
+                entry(1L, BalanceJournal.Kind.USE, 9000L),
+                entry(2L, BalanceJournal.Kind.CANCEL, 10000L),
+                new BalanceJournal.Entry(3L, BalanceJournal.Kind.UNREGISTER, 1L, 0L, 0L, now(), null));
+        writeAndClose(entries);
+
+        //when
+        List<BalanceJournal.Entry> recovered;
+        long nextSeq;
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            recovered = journal.recover();
+            nextSeq = journal.nextSeq();
+        }
+
+        //then
+        assertEquals(entries, recovered);
+        assertEquals(4L, nextSeq);
+    }
+
+    @Test
+    void recoverSkipsCheckpointedEntries() throws IOException {
+        //given
+        List<BalanceJournal.Entry> entries = List.of(
+                entry(1L, BalanceJournal.Kind.USE, 9000L),
+                entry(2L, BalanceJournal.Kind.USE, 8000L),
+                entry(3L, BalanceJournal.Kind.USE, 7000L));
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            journal.recover();
+            for (BalanceJournal.Entry entry : entries) {
+                journal.append(entry);
+            }
+            journal.commit();
+            journal.checkpoint(2L);
+        }
+
+        //when
+        List<BalanceJournal.Entry> recovered;
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            recovered = journal.recover();
+        }
+
+        //then
+        assertEquals(List.of(entries.get(2)), recovered);
+    }
+
+    @Test
+    void tornTailIsTruncated() throws IOException {
+        //given
+        List<BalanceJournal.Entry> entries = List.of(
+                entry(1L, BalanceJournal.Kind.USE, 9000L),
+                entry(2L, BalanceJournal.Kind.USE, 8000L));
+        writeAndClose(entries);
+        Path wal = directory.resolve("shard-0.wal");
+        Files.write(wal, new byte[10], APPEND);
+
+        //when
+        List<BalanceJournal.Entry> recovered;
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            recovered = journal.recover();
+        }
+
+        //then
+        assertEquals(entries, recovered);
+        assertEquals(2L * BalanceJournal.RECORD_BYTES, Files.size(wal));
+    }
+
+    @Test
+    void corruptedRecordEndsRecovery() throws IOException {
+        //given
+        List<BalanceJournal.Entry> entries = List.of(
+                entry(1L, BalanceJournal.Kind.USE, 9000L),
+                entry(2L, BalanceJournal.Kind.USE, 8000L),
+                entry(3L, BalanceJournal.Kind.USE, 7000L));
+        writeAndClose(entries);
+        Path wal = directory.resolve("shard-0.wal");
+        try (RandomAccessFile file = new RandomAccessFile(wal.toFile(), "rw")) {
+            // 세 번째 레코드의 금액 1바이트 변경
+            file.seek(2L * BalanceJournal.RECORD_BYTES + 16);
+            file.write(0x7F);
+        }
+
+        //when
+        List<BalanceJournal.Entry> recovered;
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            recovered = journal.recover();
+        }
+
+        //then
+        assertEquals(entries.subList(0, 2), recovered);
+        assertEquals(2L * BalanceJournal.RECORD_BYTES, Files.size(wal));
+    }
+
+    @Test
+    void drainedJournalIsEmptiedOnRecover() throws IOException {
+        //given
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            journal.recover();
+            journal.append(entry(1L, BalanceJournal.Kind.USE, 9000L));
+            journal.append(entry(2L, BalanceJournal.Kind.USE, 8000L));
+            journal.commit();
+            journal.checkpoint(2L);
+        }
+
+        //when
+        List<BalanceJournal.Entry> recovered;
+        long nextSeq;
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            recovered = journal.recover();
+            nextSeq = journal.nextSeq();
+        }
+
+        //then
+        assertTrue(recovered.isEmpty());
+        assertEquals(0L, Files.size(directory.resolve("shard-0.wal")));
+        // 비운 뒤에도 순번은 이어짐
+        assertEquals(3L, nextSeq);
+    }
+
+    @Test
+    void compactOnlyAfterCheckpoint() throws IOException {
+        //given
+        Path wal = directory.resolve("shard-0.wal");
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            journal.recover();
+            journal.append(entry(1L, BalanceJournal.Kind.USE, 9000L));
+            journal.commit();
+
+            //when
+            journal.compactIfDrained(1L);
+            long beforeCheckpoint = Files.size(wal);
+            journal.checkpoint(1L);
+            journal.compactIfDrained(1L);
+
+            //then
+            assertEquals(BalanceJournal.RECORD_BYTES, beforeCheckpoint);
+            assertEquals(0L, Files.size(wal));
+
+            journal.append(entry(2L, BalanceJournal.Kind.USE, 8000L));
+            journal.commit();
+            assertEquals(BalanceJournal.RECORD_BYTES, Files.size(wal));
+        }
+    }
+
+    @Test
+    void batchLargerThanBufferIsWrittenInOneCommit() throws IOException {
+        //given
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 2)) {
+            journal.recover();
+            for (long seq = 1; seq <= 5; seq++) {
+                journal.append(entry(seq, BalanceJournal.Kind.USE, 10000L - seq * 100));
+            }
+
+            //when
+            journal.commit();
+        }
+
+        //then
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 2)) {
+            assertEquals(5, journal.recover().size());
+        }
+    }
+
+    private void writeAndClose(List<BalanceJournal.Entry> entries) throws IOException {
+        try (BalanceJournal journal = new BalanceJournal(directory, 0, 8)) {
+            journal.recover();
+            for (BalanceJournal.Entry entry : entries) {
+                journal.append(entry);
+            }
+            journal.commit();
+        }
+    }
+
+    private static BalanceJournal.Entry entry(long seq, BalanceJournal.Kind kind, long balanceSnapShot) {
+        return new BalanceJournal.Entry(seq, kind, 1L, 1000L, balanceSnapShot, now(),
+                TransactionService.newTransactionId());
+    }
+
+    private static LocalDateTime now() {
+        // WAL 은 밀리초 단위로 기록
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
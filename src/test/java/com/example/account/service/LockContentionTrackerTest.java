@@ -0,0 +1,80 @@
+package com.example.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockContentionTrackerTest {
+
+    @Test
+    void accountBecomesHotAfterRepeatedContention() {
+        //given
+        LockContentionTracker tracker =
+                new LockContentionTracker(new SimpleMeterRegistry(), 60000L, 1.5, 100);
+
+        //when
+        tracker.recordContention("1000000000");
+        boolean hotAfterOne = tracker.isHot("1000000000");
+        tracker.recordContention("1000000000");
+
+        //then
+        assertFalse(hotAfterOne);
+        assertTrue(tracker.isHot("1000000000"));
+        assertFalse(tracker.isHot("1000000001"));
+    }
+
+    @Test
+    void contentionDecaysOverTime() throws InterruptedException {
+        //given
+        LockContentionTracker tracker =
+                new LockContentionTracker(new SimpleMeterRegistry(), 10L, 1.5, 100);
+        tracker.recordContention("1000000000");
+        tracker.recordContention("1000000000");
+
+        //when
+        Thread.sleep(50L);
+
+        //then
+        assertFalse(tracker.isHot("1000000000"));
+    }
+
+    @Test
+    void pathCountersAreExposed() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LockContentionTracker tracker =
+                new LockContentionTracker(meterRegistry, 60000L, 1.5, 100);
+
+        //when
+        tracker.fastPathAcquired();
+        tracker.fastPathAcquired();
+        tracker.slowPathFailed("1000000000");
+
+        //then
+        assertEquals(2.0, meterRegistry.get("account.lock.attempts")
+                .tag("path", "fast").tag("result", "acquired")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("account.lock.attempts")
+                .tag("path", "slow").tag("result", "failed")
+                .functionCounter().count());
+    }
+
+    @Test
+    void trackedAccountsStayBoundedEvenIfAllHot() {
+        //given: 한 번의 경합으로 hot 이 되는 기준
+        LockContentionTracker tracker =
+                new LockContentionTracker(new SimpleMeterRegistry(), 60000L, 0.5, 10);
+        tracker.recordContention("1000000000");
+        tracker.recordContention("1000000000");
+
+        //when
+        for (int i = 1; i <= 30; i++) {
+            tracker.recordContention(String.valueOf(1000000000L + i));
+        }
+
+        //then: 상한을 넘지 않고, 점수가 가장 높은 계좌는 남음
+        assertTrue(tracker.trackedAccounts() <= 10);
+        assertTrue(tracker.isHot("1000000000"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.account.service;
+
+import com.example.account.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LockFencingTest {
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong counter;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private LockFencing lockFencing;
+
+    @AfterEach
+    void clearToken() {
+        lockFencing.clear("1000000000");
+    }
+
+    @Test
+    void claimWithIssuedToken() {
+        //given
+        lockFencing = new LockFencing(redissonClient, accountRepository, true);
+        given(redissonClient.getAtomicLong("ACFT:1000000000")).willReturn(counter);
+        given(counter.incrementAndGet()).willReturn(7L);
+        given(accountRepository.claimFencingToken("1000000000", 7L)).willReturn(1);
+        lockFencing.issue("1000000000");
+
+        //when
+        boolean superseded = lockFencing.isSuperseded("1000000000");
+
+        //then
+        assertFalse(superseded);
+    }
+
+    @Test
+    void staleTokenIsSuperseded() {
+        //given
+        lockFencing = new LockFencing(redissonClient, accountRepository, true);
+        given(redissonClient.getAtomicLong("ACFT:1000000000")).willReturn(counter);
+        given(counter.incrementAndGet()).willReturn(7L);
+        given(accountRepository.claimFencingToken("1000000000", 7L)).willReturn(0);
+        given(accountRepository.findFencingToken("1000000000")).willReturn(8L);
+        given(counter.get()).willReturn(8L);
+        lockFencing.issue("1000000000");
+
+        //when
+        boolean superseded = lockFencing.isSuperseded("1000000000");
+
+        //then
+        assertTrue(superseded);
+        verify(counter, never()).compareAndSet(anyLong(), anyLong());
+    }
+
+    @Test
+    void counterCatchesUpWithStoredToken() {
+        //given: Redis 가 초기화되어 카운터가 DB 에 저장된 token 보다 작음
+        lockFencing = new LockFencing(redissonClient, accountRepository, true);
+        given(redissonClient.getAtomicLong("ACFT:1000000000")).willReturn(counter);
+        given(counter.incrementAndGet()).willReturn(1L);
+        given(accountRepository.claimFencingToken("1000000000", 1L)).willReturn(0);
+        given(accountRepository.findFencingToken("1000000000")).willReturn(500L);
+        given(counter.get()).willReturn(1L);
+        given(counter.compareAndSet(1L, 500L)).willReturn(true);
+        lockFencing.issue("1000000000");
+
+        //when
+        boolean superseded = lockFencing.isSuperseded("1000000000");
+
+        //then
+        assertTrue(superseded);
+        verify(counter, times(1)).compareAndSet(1L, 500L);
+    }
+
+    @Test
+    void noTokenSkipsClaim() {
+        //given
+        lockFencing = new LockFencing(redissonClient, accountRepository, false);
+        lockFencing.issue("1000000000");
+
+        //when
+        boolean superseded = lockFencing.isSuperseded("1000000000");
+
+        //then
+        assertFalse(superseded);
+        verify(accountRepository, never()).claimFencingToken(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockHoldTrackerTest {
+
+    @Test
+    void tracksHoldersUntilReleased() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LockHoldTracker tracker = new LockHoldTracker(meterRegistry, 5000L);
+        tracker.acquired("1000000000");
+
+        //when
+        List<LockHoldTracker.LockHolder> holders = tracker.getHolders();
+        boolean released = tracker.released("1000000000");
+
+        //then
+        assertEquals(1, holders.size());
+        assertEquals("1000000000", holders.get(0).accountNumber());
+        assertEquals(Thread.currentThread().getName(), holders.get(0).thread());
+        assertTrue(released);
+        assertTrue(tracker.getHolders().isEmpty());
+        assertEquals(1, meterRegistry.get("account.lock.hold").timer().count());
+    }
+
+    @Test
+    void releaseByOtherThreadIsIgnored() {
+        //given
+        LockHoldTracker tracker = new LockHoldTracker(new SimpleMeterRegistry(), 5000L);
+        tracker.acquired("1000000000");
+
+        //when
+        boolean released = CompletableFuture.supplyAsync(() -> tracker.released("1000000000")).join();
+
+        //then
+        assertFalse(released);
+        assertFalse(tracker.released("1000000001"));
+        assertEquals(1, tracker.getHolders().size());
+    }
+
+    @Test
+    void watchdogReportsLongHeldLockOnce() throws InterruptedException {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LockHoldTracker tracker = new LockHoldTracker(meterRegistry, 10L);
+        tracker.acquired("1000000000");
+        Thread.sleep(20L);
+
+        //when
+        tracker.reportLongHeldLocks();
+        tracker.reportLongHeldLocks();
+
+        //then
+        assertEquals(1, meterRegistry.get("account.lock.held-too-long").counter().count());
+        assertEquals(1, meterRegistry.get("account.lock.held").gauge().value());
+    }
+
+    @Test
+    void supersededHolderIsStillReleasedByItsThread() {
+        //given: 이 스레드의 lease 가 만료된 뒤 다른 스레드가 같은 계좌의 lock 을 얻음
+        LockHoldTracker tracker = new LockHoldTracker(new SimpleMeterRegistry(), 5000L);
+        tracker.acquired("1000000000");
+        CompletableFuture.runAsync(() -> tracker.acquired("1000000000")).join();
+
+        //when
+        boolean released = tracker.released("1000000000");
+
+        //then
+        assertTrue(released);
+        assertEquals(1, tracker.getHolders().size());
+    }
+}
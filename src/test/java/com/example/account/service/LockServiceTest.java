@@ -1,18 +1,30 @@
 package com.example.account.service;
 
+import com.example.account.config.RedissonProperties;
 import com.example.account.exception.AccountException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.example.account.type.ErrorCode.ACCOUNT_TRANSACTION_LOCK;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +35,21 @@ class LockServiceTest {
     @Mock
     private RLock rLock;
 
+    @Mock
+    private RScript rScript;
+
+    @Mock
+    private RedissonProperties redissonProperties;
+
+    @Mock
+    private LockContentionTracker lockContentionTracker;
+
+    @Mock
+    private LockHoldTracker lockHoldTracker;
+
+    @Mock
+    private LockFencing lockFencing;
+
     @InjectMocks
     private LockService lockService;
 
@@ -38,6 +65,9 @@ class LockServiceTest {
         assertDoesNotThrow(() ->
                 lockService.lock("123"));
 
+        //then
+        verify(lockHoldTracker, times(1)).acquired("123");
+        verify(lockFencing, times(1)).issue("123");
     }
 
     @Test
@@ -52,6 +82,171 @@ class LockServiceTest {
                 () -> lockService.lock("1234"));
 
         assertEquals(ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(lockFencing, never()).issue(anyString());
+    }
+
+    @Test
+    void coldAccountUsesFastPath() throws InterruptedException {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.tryLock(0, 15, TimeUnit.SECONDS))
+                .willReturn(true);
+
+        //when
+        lockService.lock("123");
+
+        //then
+        verify(lockContentionTracker).fastPathAcquired();
+        verify(rLock, never()).tryLock(1, 15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void contendedColdAccountFallsBackToWaitingLock() throws InterruptedException {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.tryLock(0, 15, TimeUnit.SECONDS))
+                .willReturn(false);
+        given(rLock.tryLock(1, 15, TimeUnit.SECONDS))
+                .willReturn(true);
+
+        //when
+        lockService.lock("123");
+
+        //then
+        verify(lockContentionTracker).fastPathContended("123");
+        verify(lockContentionTracker).slowPathAcquired();
+    }
+
+    @Test
+    void hotAccountSkipsFastPath() throws InterruptedException {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(lockContentionTracker.isHot("123"))
+                .willReturn(true);
+        given(rLock.tryLock(1, 15, TimeUnit.SECONDS))
+                .willReturn(true);
+
+        //when
+        lockService.lock("123");
+
+        //then
+        verify(rLock, never()).tryLock(0, 15, TimeUnit.SECONDS);
+        verify(lockContentionTracker).slowPathAcquired();
+    }
+
+    @Test
+    void lockAllInSortedOrderWithOneScriptCall() throws InterruptedException {
+        //given
+        given(redissonClient.getScript(any(Codec.class)))
+                .willReturn(rScript);
+        given(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), anyString(), anyString()))
+                .willReturn(1L);
+
+        //when
+        lockService.lockAll(List.of("2000000000", "1000000000", "2000000000"));
+
+        //then
+        verify(rScript, times(1)).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.<Object>of("ACLK:1000000000", "ACLK:2000000000")), eq("15000"), anyString());
+        verify(redissonClient, never()).getMultiLock(any());
+        verify(lockFencing, times(1)).issue("1000000000");
+        verify(lockFencing, times(1)).issue("2000000000");
+    }
+
+    @Test
+    void failLockAll() throws InterruptedException {
+        //given
+        given(redissonClient.getScript(any(Codec.class)))
+                .willReturn(rScript);
+        given(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), anyString(), anyString()))
+                .willReturn(0L);
+
+        //when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> lockService.lockAll(List.of("1000000000", "2000000000")));
+
+        //then
+        assertEquals(ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(lockFencing, never()).issue(anyString());
+    }
+
+    @Test
+    void clusterModeLockAllInSortedOrder() throws InterruptedException {
+        //given
+        RLock multiLock = mock(RLock.class);
+        given(redissonProperties.getMode())
+                .willReturn(RedissonProperties.Mode.CLUSTER);
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(redissonClient.getMultiLock(any(), any()))
+                .willReturn(multiLock);
+        given(multiLock.tryLock(1000, 15000, TimeUnit.MILLISECONDS))
+                .willReturn(true);
+
+        //when
+        lockService.lockAll(List.of("2000000000", "1000000000", "2000000000"));
+
+        //then
+        InOrder inOrder = inOrder(redissonClient);
+        inOrder.verify(redissonClient).getLock("ACLK:1000000000");
+        inOrder.verify(redissonClient).getLock("ACLK:2000000000");
+    }
+
+    @Test
+    void unlockAllReleasesEveryHeldLock() {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(rLock.isHeldByCurrentThread())
+                .willReturn(true);
+
+        //when
+        lockService.unlockAll(List.of("1000000000", "2000000000"));
+
+        //then
+        verify(rLock, times(2)).unlock();
+        verify(lockFencing, times(1)).clear("1000000000");
+        verify(lockFencing, times(1)).clear("2000000000");
     }
 
-}
\ No newline at end of file
+    @Test
+    void expiredLeaseCountsMismatchedUnlock() {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(lockHoldTracker.released("1000000000"))
+                .willReturn(true);
+        given(rLock.isHeldByCurrentThread())
+                .willReturn(false);
+
+        //when
+        lockService.unlock("1000000000");
+
+        //then
+        verify(rLock, never()).unlock();
+        verify(lockHoldTracker, times(1)).mismatchedUnlock();
+    }
+
+    @Test
+    void unlockAfterFailedLockIsNotMismatched() {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(lockHoldTracker.released("1000000000"))
+                .willReturn(false);
+        given(rLock.isHeldByCurrentThread())
+                .willReturn(false);
+
+        //when
+        lockService.unlock("1000000000");
+
+        //then
+        verify(rLock, never()).unlock();
+        verify(lockHoldTracker, never()).mismatchedUnlock();
+    }
+}
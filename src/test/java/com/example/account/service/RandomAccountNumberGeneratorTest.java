@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -33,5 +34,18 @@ class RandomAccountNumberGeneratorTest {
         assertNotNull(accountNumber);
     }
 
+    @Test
+    void generateUniqueAccountNumber_avoidsBlockRange() {
+        when(accountRepository.findByAccountNumber(anyString())).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 10000; i++) {
+            long accountNumber = Long.parseLong(generator.generateUniqueAccountNumber());
+
+            // 10자리이고, 대량 생성 전용 대역(9로 시작)은 쓰지 않음
+            assertTrue(accountNumber >= 1_000_000_000L
+                    && accountNumber < AccountNumberBlockAllocator.BLOCK_ACCOUNT_NUMBER_FROM);
+        }
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.domain.TransactionArchive;
+import com.example.account.repository.TransactionArchiveRepository;
+import com.example.account.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.account.type.TransactionResultType.S;
+import static com.example.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionArchiveServiceTest {
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionArchiveRepository transactionArchiveRepository;
+
+    @Mock
+    private TransactionIdIndex transactionIdIndex;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock rLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveMovesOldTransactions() {
+        //given
+        TransactionArchiveService transactionArchiveService = new TransactionArchiveService(
+                transactionRepository, transactionArchiveRepository, transactionIdIndex, redissonClient,
+                transactionManager, true);
+        given(transactionManager.getTransaction(any()))
+                .willAnswer(invocation -> new SimpleTransactionStatus());
+        Transaction transaction = Transaction.builder()
+                .account(Account.builder().accountNumber("1000000012").build())
+                .transactionType(USE)
+                .transactionResultType(S)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now().minusYears(2))
+                .amount(1000L)
+                .balanceSnapShot(9000L)
+                .build();
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(2);
+        transaction.setCreatedAt(createdAt);
+        transaction.setUpdatedAt(createdAt);
+        given(transactionRepository.findTop1000ByTransactedAtBeforeOrderByIdAsc(any()))
+                .willReturn(List.of(transaction))
+                .willReturn(List.of());
+        ArgumentCaptor<List<TransactionArchive>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        int archived = transactionArchiveService.archive(LocalDateTime.now().minusYears(1));
+
+        //then
+        assertEquals(1, archived);
+        verify(transactionArchiveRepository, times(2)).saveAll(captor.capture());
+        assertEquals("transactionId", captor.getAllValues().get(0).get(0).getTransactionId());
+        assertEquals(1000L, captor.getAllValues().get(0).get(0).getAmount());
+        assertEquals(createdAt, captor.getAllValues().get(0).get(0).getCreatedAt());
+        assertEquals(createdAt, captor.getAllValues().get(0).get(0).getUpdatedAt());
+        verify(transactionRepository, times(1)).deleteAll(List.of(transaction));
+        verify(transactionIdIndex, times(1)).evict(List.of(transaction));
+    }
+
+    @Test
+    void scheduledArchiveSkippedWhenAnotherInstanceHoldsLock() {
+        //given
+        TransactionArchiveService transactionArchiveService = new TransactionArchiveService(
+                transactionRepository, transactionArchiveRepository, transactionIdIndex, redissonClient,
+                transactionManager, true);
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+        given(rLock.tryLock()).willReturn(false);
+
+        //when
+        transactionArchiveService.archiveScheduled();
+
+        //then
+        verify(transactionRepository, never()).findTop1000ByTransactedAtBeforeOrderByIdAsc(any());
+        verify(rLock, never()).unlock();
+    }
+
+    @Test
+    void scheduledArchiveReleasesLock() {
+        //given
+        TransactionArchiveService transactionArchiveService = new TransactionArchiveService(
+                transactionRepository, transactionArchiveRepository, transactionIdIndex, redissonClient,
+                transactionManager, true);
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+        given(rLock.tryLock()).willReturn(true);
+        given(transactionManager.getTransaction(any()))
+                .willAnswer(invocation -> new SimpleTransactionStatus());
+        given(transactionRepository.findTop1000ByTransactedAtBeforeOrderByIdAsc(any()))
+                .willReturn(List.of());
+
+        //when
+        transactionArchiveService.archiveScheduled();
+
+        //then
+        verify(transactionRepository, times(1)).findTop1000ByTransactedAtBeforeOrderByIdAsc(any());
+        verify(rLock, times(1)).unlock();
+    }
+}
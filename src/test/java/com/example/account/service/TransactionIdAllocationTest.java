@@ -0,0 +1,62 @@
+package com.example.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TransactionIdAllocationTest {
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("거래 아이디는 하이픈 없는 UUID 형식")
+    void transactionIdFormat() {
+        String transactionId = TransactionService.newTransactionId();
+
+        assertEquals(32, transactionId.length());
+        assertTrue(transactionId.matches("[0-9a-f]{32}"));
+        // UUID 로 되돌릴 수 있는 값이어야 함
+        UUID.fromString(transactionId.replaceFirst(
+                "(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})", "$1-$2-$3-$4-$5"));
+    }
+
+    @Test
+    @DisplayName("거래 아이디 생성은 UUID 문자열 변환 + replace 보다 적게 할당")
+    void transactionIdAllocation() {
+        long allocated = allocatedBytesPerCall(() ->
+                TransactionService.newTransactionId().length());
+        long legacy = allocatedBytesPerCall(() ->
+                UUID.randomUUID().toString().replace("-", "").length());
+
+        assertTrue(allocated < legacy,
+                "allocated bytes per id : " + allocated + ", legacy : " + legacy);
+    }
+
+    /**
+     * 워밍업 후 현재 스레드의 누적 할당 바이트로 호출당 평균 할당량을 잰다.
+     */
+    private static long allocatedBytesPerCall(LongSupplier call) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call.getAsLong();
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call.getAsLong();
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(sink != 0);
+        return allocated / ITERATIONS;
+    }
+}
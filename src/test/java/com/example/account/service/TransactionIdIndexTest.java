@@ -0,0 +1,199 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionIdIndexTest {
+    private static final String TRANSACTION_ID = "0fdfe719c9e74dc8bd843105b4fd0b2d";
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void indexAndFind() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 16);
+        LocalDateTime transactedAt = LocalDateTime.of(2024, 2, 20, 10, 30, 15);
+
+        //when
+        index.index(transaction(3L, TRANSACTION_ID, 1L, 1000L, transactedAt));
+        TransactionIdIndex.Entry entry = index.find(TRANSACTION_ID);
+
+        //then
+        assertNotNull(entry);
+        assertEquals(3L, entry.transactionPk());
+        assertEquals(1L, entry.accountId());
+        assertEquals(1000L, entry.amount());
+        assertEquals(transactedAt, entry.transactedAt());
+        assertEquals(USE, entry.transactionType());
+        assertNull(index.find("1fdfe719c9e74dc8bd843105b4fd0b2d"));
+    }
+
+    @Test
+    void nonHexIdIsNotIndexed() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 16);
+
+        //when
+        index.index(transaction(3L, "transactionId", 1L, 1000L, LocalDateTime.now()));
+
+        //then
+        assertNull(index.find("transactionId"));
+    }
+
+    @Test
+    void stopsIndexingWhenFull() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 4);
+
+        //when
+        for (int i = 1; i <= 4; i++) {
+            index.index(transaction((long) i, String.format("%032x", i), 1L, 1000L, LocalDateTime.now()));
+        }
+
+        //then
+        assertNotNull(index.find(String.format("%032x", 3)));
+        assertNull(index.find(String.format("%032x", 4)));
+    }
+
+    @Test
+    void evictKeepsOtherEntriesFindable() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 8);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Transaction transaction = transaction((long) i, String.format("%032x", i), 1L, 1000L, LocalDateTime.now());
+            transactions.add(transaction);
+            index.index(transaction);
+        }
+
+        //when
+        index.evict(List.of(transactions.get(0), transactions.get(3)));
+
+        //then
+        assertNull(index.find(String.format("%032x", 1)));
+        assertNull(index.find(String.format("%032x", 4)));
+        for (int i : new int[]{2, 3, 5, 6}) {
+            assertEquals((long) i, index.find(String.format("%032x", i)).transactionPk());
+        }
+    }
+
+    @Test
+    void evictFreesCapacity() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 4);
+        Transaction first = transaction(1L, String.format("%032x", 1), 1L, 1000L, LocalDateTime.now());
+        index.index(first);
+        for (int i = 2; i <= 4; i++) {
+            index.index(transaction((long) i, String.format("%032x", i), 1L, 1000L, LocalDateTime.now()));
+        }
+
+        //when
+        index.evict(List.of(first));
+        index.index(transaction(4L, String.format("%032x", 4), 1L, 1000L, LocalDateTime.now()));
+
+        //then
+        assertNull(index.find(String.format("%032x", 1)));
+        assertNotNull(index.find(String.format("%032x", 4)));
+    }
+
+    @Test
+    void rebuildFromRepository() {
+        //given
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, true, 16);
+        LocalDateTime transactedAt = LocalDateTime.of(2024, 2, 20, 10, 30, 15);
+        given(transactionRepository.findIndexRowsByIdGreaterThan(anyLong(), any()))
+                .willReturn(List.of(indexRow(5L, TRANSACTION_ID, 2L, 500L, transactedAt)));
+
+        //when
+        index.rebuild();
+
+        //then
+        TransactionIdIndex.Entry entry = index.find(TRANSACTION_ID);
+        assertEquals(5L, entry.transactionPk());
+        assertEquals(2L, entry.accountId());
+        assertEquals(500L, entry.amount());
+        assertEquals(transactedAt, entry.transactedAt());
+        assertEquals(USE, entry.transactionType());
+        verify(transactionRepository, times(1)).findIndexRowsByIdGreaterThan(anyLong(), any());
+    }
+
+    @Test
+    void disabledIndexFindsNothing() {
+        TransactionIdIndex index = new TransactionIdIndex(transactionRepository, false, 16);
+
+        index.index(transaction(3L, TRANSACTION_ID, 1L, 1000L, LocalDateTime.now()));
+
+        assertFalse(index.isEnabled());
+        assertNull(index.find(TRANSACTION_ID));
+    }
+
+    private static TransactionRepository.TransactionIndexRow indexRow(
+            Long id, String transactionId, Long accountId, Long amount, LocalDateTime transactedAt) {
+        return new TransactionRepository.TransactionIndexRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public Long getAmount() {
+                return amount;
+            }
+
+            @Override
+            public LocalDateTime getTransactedAt() {
+                return transactedAt;
+            }
+
+            @Override
+            public TransactionType getTransactionType() {
+                return USE;
+            }
+        };
+    }
+
+    private static Transaction transaction(
+            Long id, String transactionId, Long accountId, Long amount, LocalDateTime transactedAt) {
+        Account account = Account.builder().accountNumber("1000000012").build();
+        account.setId(accountId);
+        Transaction transaction = Transaction.builder()
+                .account(account)
+                .transactionType(USE)
+                .transactionId(transactionId)
+                .amount(amount)
+                .transactedAt(transactedAt)
+                .build();
+        transaction.setId(id);
+        return transaction;
+    }
+}
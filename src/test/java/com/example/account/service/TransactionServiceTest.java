@@ -3,10 +3,13 @@ package com.example.account.service;
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import com.example.account.domain.Transaction;
+import com.example.account.domain.TransactionArchive;
 import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransferDto;
 import com.example.account.exception.AccountException;
 import com.example.account.repository.AccountRepository;
 import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.TransactionArchiveRepository;
 import com.example.account.repository.TransactionRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -25,11 +28,11 @@ import static com.example.account.type.AccountStatus.UNREGISTERED;
 import static com.example.account.type.ErrorCode.*;
 import static com.example.account.type.TransactionResultType.F;
 import static com.example.account.type.TransactionResultType.S;
-import static com.example.account.type.TransactionType.CANCEL;
-import static com.example.account.type.TransactionType.USE;
+import static com.example.account.type.TransactionType.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -48,6 +51,18 @@ class TransactionServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private TransactionIdIndex transactionIdIndex;
+
+    @Mock
+    private TransactionArchiveRepository transactionArchiveRepository;
+
+    @Mock
+    private LockFencing lockFencing;
+
+    @Mock
+    private BalanceEngine balanceEngine;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -196,6 +211,36 @@ class TransactionServiceTest {
         assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("lease 가 만료되어 다른 요청이 계좌를 가져간 경우 - 잔액 사용 실패")
+    void useBalanceFailed_lockExpired() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(lockFencing.isSuperseded("1000000012"))
+                .willReturn(true);
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.useBalance(12L, "1000000012", 1000L));
+
+        //then
+        assertEquals(ACCOUNT_LOCK_EXPIRED, exception.getErrorCode());
+        assertEquals(10000L, account.getBalance());
+        verify(transactionRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("거래 금액이 잔액보다 큰 경우 - 잔액 사용 실패")
     void useBalanceFailed_exceedAmount() {
@@ -328,6 +373,80 @@ class TransactionServiceTest {
 
     }
 
+    @Test
+    @DisplayName("거래 ID 인덱스에 있는 거래는 DB 조회 없이 취소")
+    void successCancelBalance_indexedTransaction() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+
+        Account account = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+
+        given(transactionIdIndex.find(anyString()))
+                .willReturn(new TransactionIdIndex.Entry(
+                        7L, 1L, CANCEL_AMOUNT, LocalDateTime.now(), USE));
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        given(transactionRepository.save(any()))
+                .willReturn(Transaction.builder()
+                        .account(account)
+                        .transactionType(CANCEL)
+                        .transactionResultType(S)
+                        .transactionId("transactionId")
+                        .transactedAt(LocalDateTime.now())
+                        .amount(CANCEL_AMOUNT)
+                        .balanceSnapShot(10000L + CANCEL_AMOUNT)
+                        .build()
+                );
+
+        //when
+        TransactionDto transactionDto = transactionService.cancelBalance(
+                "transactionId", "1000000000", CANCEL_AMOUNT);
+
+        //then
+        verify(transactionRepository, never()).findByTransactionId(anyString());
+        assertEquals(10000L + CANCEL_AMOUNT, account.getBalance());
+        assertEquals(CANCEL, transactionDto.getTransactionType());
+    }
+
+    @Test
+    @DisplayName("거래 ID 인덱스 기준 금액 불일치 - 잔액 사용 취소 실패")
+    void cancelTransactionFailed_indexedCancelMustFully() {
+        //given
+        Account account = Account.builder()
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+
+        given(transactionIdIndex.find(anyString()))
+                .willReturn(new TransactionIdIndex.Entry(
+                        7L, 1L, CANCEL_AMOUNT + 1000L, LocalDateTime.now(), USE));
+
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance(
+                        "transactionId",
+                        "1234567890",
+                        CANCEL_AMOUNT
+                ));
+
+        //then
+        assertEquals(CANCEL_MUST_FULLY, exception.getErrorCode());
+        verify(transactionRepository, never()).findByTransactionId(anyString());
+    }
+
     @Test
     @DisplayName("계좌 없음 - 잔액 사용 취소 실패")
     void cancelTransactionFailed_AccountNotFound() {
@@ -551,5 +670,247 @@ class TransactionServiceTest {
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
 
-}
+    @Test
+    @DisplayName("보관된 거래 조회 성공")
+    void successQueryArchivedTransaction() {
+        //given
+        Account account = Account.builder()
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.empty());
+        given(transactionArchiveRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.of(TransactionArchive.builder()
+                        .account(account)
+                        .transactionType(USE)
+                        .transactionResultType(S)
+                        .transactionId("transactionId")
+                        .transactedAt(LocalDateTime.now().minusYears(2))
+                        .amount(CANCEL_AMOUNT)
+                        .balanceSnapShot(9000L)
+                        .build()));
+
+        //when
+        TransactionDto transactionDto = transactionService.queryTransaction("transactionId");
+
+        //then
+        assertEquals("1000000012", transactionDto.getAccountNumber());
+        assertEquals(USE, transactionDto.getTransactionType());
+        assertEquals(CANCEL_AMOUNT, transactionDto.getAmount());
+    }
+
+    @Test
+    @DisplayName("보관된 거래는 취소 불가 - 잔액 사용 취소 실패")
+    void cancelTransactionFailed_archivedTransaction() {
+        //given
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Optional.empty());
+        given(transactionArchiveRepository.existsByTransactionId(anyString()))
+                .willReturn(true);
+
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance("transactionId", "1234567890", 1000L));
+
+        //then
+        assertEquals(TOO_OLD_OLDER_TO_CANCEL, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("이체 성공 - 출금/입금 거래 저장")
+    void successTransferBalance() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        AccountUser otherUser = AccountUser.builder()
+                .name("Harry").build();
+        otherUser.setId(13L);
+        Account fromAccount = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        Account toAccount = Account.builder()
+                .accountUser(otherUser)
+                .accountStatus(IN_USE)
+                .balance(500L)
+                .accountNumber("1000000013").build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000012"))
+                .willReturn(Optional.of(fromAccount));
+        given(accountRepository.findByAccountNumber("1000000013"))
+                .willReturn(Optional.of(toAccount));
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        //when
+        TransferDto transferDto = transactionService.transferBalance(
+                12L, "1000000012", "1000000013", USE_AMOUNT);
+
+        //then
+        verify(transactionRepository, times(2)).save(captor.capture());
+        Transaction transferOut = captor.getAllValues().get(0);
+        Transaction transferIn = captor.getAllValues().get(1);
+        assertEquals(TRANSFER_OUT, transferOut.getTransactionType());
+        assertEquals(10000L - USE_AMOUNT, transferOut.getBalanceSnapShot());
+        assertEquals(TRANSFER_IN, transferIn.getTransactionType());
+        assertEquals(500L + USE_AMOUNT, transferIn.getBalanceSnapShot());
+
+        // 출금/입금 거래 아이디를 함께 응답
+        assertEquals("1000000012", transferDto.getFromAccountNumber());
+        assertEquals("1000000013", transferDto.getToAccountNumber());
+        assertEquals(transferOut.getTransactionId(), transferDto.getTransactionId());
+        assertEquals(transferIn.getTransactionId(), transferDto.getToTransactionId());
+        assertEquals(USE_AMOUNT, transferDto.getAmount());
+    }
+
+    @Test
+    @DisplayName("같은 계좌로 이체 - 이체 실패")
+    void transferBalanceFailed_sameAccount() {
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.transferBalance(
+                        12L, "1000000012", "1000000012", USE_AMOUNT));
+
+        //then
+        assertEquals(TRANSFER_TO_SAME_ACCOUNT, exception.getErrorCode());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("해지된 계좌로 이체 - 이체 실패")
+    void transferBalanceFailed_toAccountUnregistered() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .name("Pobi").build();
+        user.setId(12L);
+        Account fromAccount = Account.builder()
+                .accountUser(user)
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        Account toAccount = Account.builder()
+                .accountUser(user)
+                .accountStatus(UNREGISTERED)
+                .balance(0L)
+                .accountNumber("1000000013").build();
+
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000012"))
+                .willReturn(Optional.of(fromAccount));
+        given(accountRepository.findByAccountNumber("1000000013"))
+                .willReturn(Optional.of(toAccount));
+
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.transferBalance(
+                        12L, "1000000012", "1000000013", USE_AMOUNT));
+
+        //then
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+        assertEquals(10000L, fromAccount.getBalance());
+    }
+
+    @Test
+    @DisplayName("이체 거래 취소 - 잔액 사용 취소 실패")
+    void cancelTransactionFailed_transfer() {
+        //given
+        Account account = Account.builder()
+                .accountStatus(IN_USE)
+                .balance(10000L)
+                .accountNumber("1000000012").build();
+        account.setId(1L);
+
+        given(transactionIdIndex.find(anyString()))
+                .willReturn(new TransactionIdIndex.Entry(
+                        7L, 1L, CANCEL_AMOUNT, LocalDateTime.now(), TRANSFER_OUT));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        //when
+        AccountException exception = Assertions.assertThrows(AccountException.class,
+                () -> transactionService.cancelBalance(
+                        "transactionId", "1000000012", CANCEL_AMOUNT));
+
+        //then
+        assertEquals(TRANSFER_CANNOT_BE_CANCELLED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("잔액 엔진 모드 - 잔액 사용은 엔진이 처리")
+    void useBalance_balanceEngine() {
+        //given
+        TransactionDto engineResult = TransactionDto.builder()
+                .accountNumber("1000000012")
+                .transactionType(USE)
+                .transactionResultType(S)
+                .amount(USE_AMOUNT)
+                .balanceSnapShot(9800L)
+                .transactionId("transactionId")
+                .build();
+        given(balanceEngine.isEnabled()).willReturn(true);
+        given(balanceEngine.useBalance(1L, "1000000012", USE_AMOUNT))
+                .willReturn(engineResult);
 
+        //when
+        TransactionDto transactionDto = transactionService.useBalance(1L, "1000000012", USE_AMOUNT);
+
+        //then
+        assertEquals(engineResult, transactionDto);
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 엔진 모드 - DB 반영 전 거래 취소")
+    void cancelBalance_pendingInBalanceEngine() {
+        //given
+        LocalDateTime transactedAt = LocalDateTime.now();
+        BalanceEngine.PendingTransaction pending = new BalanceEngine.PendingTransaction("1000000012",
+                new BalanceJournal.Entry(3L, BalanceJournal.Kind.USE, 1L, CANCEL_AMOUNT, 9800L,
+                        transactedAt, "transactionId"));
+        given(balanceEngine.findPending("transactionId")).willReturn(pending);
+        given(balanceEngine.isEnabled()).willReturn(true);
+        ArgumentCaptor<TransactionIdIndex.Entry> captor = ArgumentCaptor.forClass(TransactionIdIndex.Entry.class);
+
+        //when
+        transactionService.cancelBalance("transactionId", "1000000012", CANCEL_AMOUNT);
+
+        //then
+        verify(balanceEngine, times(1)).cancelBalance(captor.capture(), eq("1000000012"), eq(CANCEL_AMOUNT));
+        assertEquals(1L, captor.getValue().accountId());
+        assertEquals(CANCEL_AMOUNT, captor.getValue().amount());
+        assertEquals(USE, captor.getValue().transactionType());
+        verify(transactionIdIndex, never()).find(anyString());
+        verify(transactionRepository, never()).findByTransactionId(anyString());
+    }
+
+    @Test
+    @DisplayName("잔액 엔진 모드 - DB 반영 전 거래 확인")
+    void queryTransaction_pendingInBalanceEngine() {
+        //given
+        LocalDateTime transactedAt = LocalDateTime.now();
+        given(balanceEngine.findPending("transactionId")).willReturn(new BalanceEngine.PendingTransaction(
+                "1000000012", new BalanceJournal.Entry(3L, BalanceJournal.Kind.USE, 1L, USE_AMOUNT, 9800L,
+                transactedAt, "transactionId")));
+
+        //when
+        TransactionDto transactionDto = transactionService.queryTransaction("transactionId");
+
+        //then
+        assertEquals("1000000012", transactionDto.getAccountNumber());
+        assertEquals(USE, transactionDto.getTransactionType());
+        assertEquals(S, transactionDto.getTransactionResultType());
+        assertEquals(9800L, transactionDto.getBalanceSnapShot());
+        assertEquals(transactedAt, transactionDto.getTransactedAt());
+        verify(transactionRepository, never()).findByTransactionId(anyString());
+    }
+
+}
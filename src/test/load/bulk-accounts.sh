@@ -0,0 +1,32 @@
+#!/usr/bin/env sh
+# 대량 계좌 생성 API(/account/bulk) 적재 도구
+# 사용법: sh src/test/load/bulk-accounts.sh [accounts.ndjson]
+# 파일을 주지 않으면 USER_FROM 부터 USERS 명의 사용자에게 ACCOUNTS_PER_USER 개씩 계좌를 만드는 NDJSON 을 생성한다.
+# 사용자는 미리 있어야 한다(seed 프로파일로 적재). 적재 후 성공/실패 건수와 초당 생성 계좌 수를 출력한다.
+
+URL=${URL:-http://localhost:8080/account/bulk}
+USERS=${USERS:-5000}
+USER_FROM=${USER_FROM:-101} # seed 프로파일로 적재한 첫 사용자
+ACCOUNTS_PER_USER=${ACCOUNTS_PER_USER:-10}
+INITIAL_BALANCE=${INITIAL_BALANCE:-10000}
+FILE=$1
+RESULT=build/bulk-accounts-result.ndjson
+
+mkdir -p build
+if [ -z "$FILE" ]; then
+  FILE=build/bulk-accounts.ndjson
+  awk -v users="$USERS" -v from="$USER_FROM" -v per="$ACCOUNTS_PER_USER" -v balance="$INITIAL_BALANCE" \
+    'BEGIN { for (u = from; u < from + users; u++) for (i = 0; i < per; i++)
+      printf "{\"userId\":%d,\"initialBalance\":%d}\n", u, balance }' > "$FILE"
+fi
+
+start=$(date +%s.%N)
+curl -sf -H 'Content-Type: application/x-ndjson' -H 'Accept: application/x-ndjson' \
+  --data-binary "@$FILE" "$URL" > "$RESULT" || { echo "request failed"; exit 1; }
+end=$(date +%s.%N)
+
+total=$(wc -l < "$RESULT")
+failed=$(grep -c '"errorCode"' "$RESULT")
+echo "$total lines, $((total - failed)) created, $failed failed (see $RESULT)"
+awk -v s="$start" -v e="$end" -v n="$((total - failed))" \
+  'BEGIN { printf "%.2fs, %.0f accounts/s\n", e - s, n / (e - s) }'
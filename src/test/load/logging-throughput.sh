@@ -0,0 +1,40 @@
+#!/usr/bin/env sh
+# prod 로그 설정에서 debug 로그를 켠 경우와 끈 경우의 /transaction/use 처리량 비교
+# 사용법: ./gradlew bootJar && sh src/test/load/logging-throughput.sh
+# 운영 프로파일로 실행하므로 127.0.0.1:6379 에 Redis, 127.0.0.1:5432 에 PostgreSQL 이 떠 있어야 하며(사용자는 seed 프로파일로 적재), ab(apache bench)가 필요하다.
+
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+PORT=${PORT:-18080}
+REQUESTS=${REQUESTS:-2000}
+CONCURRENCY=${CONCURRENCY:-50}
+USER_ID=${USER_ID:-101} # seed 프로파일로 적재한 첫 사용자
+BODY=build/use-balance.json
+
+run() {
+  name=$1
+  shift
+  java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=prod "$@" > "build/$name-load.log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name: failed to start, see build/$name-load.log"
+      return 1
+    fi
+    sleep 0.2
+  done
+  # 적재된 사용자로 잔액이 충분한 계좌를 만들어 사용
+  account=$(curl -sf -H 'Content-Type: application/json' \
+    -d "{\"userId\":$USER_ID,\"initialBalance\":1000000000}" "http://localhost:$PORT/account" \
+    | sed 's/.*"accountNumber":"\([0-9]*\)".*/\1/')
+  echo "{\"userId\":$USER_ID,\"accountNumber\":\"$account\",\"amount\":10}" > "$BODY"
+  rps=$(ab -q -n "$REQUESTS" -c "$CONCURRENCY" -p "$BODY" -T application/json \
+    "http://localhost:$PORT/transaction/use" | awk '/Requests per second/ {print $4}')
+  echo "$name: $rps req/s"
+  kill "$pid"
+  wait "$pid" 2> /dev/null
+}
+
+run logging-disabled
+run logging-debug --logging.level.com.example.account=debug --logging.level.org.hibernate.SQL=debug
+run logging-debug-unsampled --logging.level.com.example.account=debug --logging.level.org.hibernate.SQL=debug \
+  --account.logging.debug-sample-rate=1
@@ -0,0 +1,90 @@
+#!/usr/bin/env sh
+# 이체 API(/transaction/transfer) 무작위 부하 및 정합성 확인
+# 사용법: sh src/test/load/random-transfers.sh
+# USER_FROM 부터 USERS 명의 사용자에게 ACCOUNTS_PER_USER 개씩 계좌를 만들고, 무작위 두 계좌 사이의 이체를 CONCURRENCY 개씩 동시에 보낸다.
+# 사용자는 미리 있어야 한다(seed 프로파일로 적재). 끝나면 처리량과 결과(에러 코드별 건수, 5xx 건수)를 출력하고,
+# 성공 응답으로 계산한 계좌별 잔액과 계좌 확인 API 의 잔액이 모두 같은지(갱신 유실 없음), 5xx(교착/lock 실패 등)가 없는지 확인한다.
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+USERS=${USERS:-20}
+USER_FROM=${USER_FROM:-101} # seed 프로파일로 적재한 첫 사용자
+ACCOUNTS_PER_USER=${ACCOUNTS_PER_USER:-5}
+INITIAL_BALANCE=${INITIAL_BALANCE:-1000000}
+TRANSFERS=${TRANSFERS:-5000}
+CONCURRENCY=${CONCURRENCY:-32}
+MAX_AMOUNT=${MAX_AMOUNT:-5000}
+DIR=build/random-transfers
+
+rm -rf "$DIR"
+mkdir -p "$DIR"
+
+# 1. 계좌 생성 ("사용자 계좌번호" 목록)
+u=$USER_FROM
+while [ "$u" -lt $((USER_FROM + USERS)) ]; do
+  i=0
+  while [ "$i" -lt "$ACCOUNTS_PER_USER" ]; do
+    account=$(curl -sf -H 'Content-Type: application/json' \
+      -d "{\"userId\":$u,\"initialBalance\":$INITIAL_BALANCE}" "$BASE_URL/account" \
+      | sed 's/.*"accountNumber":"\([0-9]*\)".*/\1/')
+    [ -n "$account" ] || { echo "failed to create account for user $u"; exit 1; }
+    echo "$u $account" >> "$DIR/accounts"
+    i=$((i + 1))
+  done
+  u=$((u + 1))
+done
+
+# 2. 무작위 이체 요청을 CONCURRENCY 개 파일로 나누어 생성 (출금 계좌의 소유주가 요청)
+awk -v n="$TRANSFERS" -v workers="$CONCURRENCY" -v max="$MAX_AMOUNT" -v dir="$DIR" -v seed="$(date +%s)" '
+  { user[NR] = $1; account[NR] = $2 }
+  END {
+    srand(seed)
+    for (t = 0; t < n; t++) {
+      from = int(rand() * NR) + 1
+      do { to = int(rand() * NR) + 1 } while (to == from)
+      printf "{\"userId\":%d,\"fromAccountNumber\":\"%s\",\"toAccountNumber\":\"%s\",\"amount\":%d}\n",
+        user[from], account[from], account[to], 10 + int(rand() * (max - 10)) > (dir "/requests-" (t % workers))
+    }
+  }' "$DIR/accounts"
+
+# 3. 동시 실행 (응답 본문 뒤에 HTTP 상태 코드)
+start=$(date +%s.%N)
+for requests in "$DIR"/requests-*; do
+  (
+    while IFS= read -r body; do
+      curl -s -w ' %{http_code}\n' -H 'Content-Type: application/json' \
+        -d "$body" "$BASE_URL/transaction/transfer"
+    done < "$requests"
+  ) > "$requests.result" &
+done
+wait
+end=$(date +%s.%N)
+cat "$DIR"/requests-*.result > "$DIR/results"
+
+total=$(wc -l < "$DIR/results")
+succeeded=$(grep -c ' 200$' "$DIR/results")
+server_errors=$(grep -c ' 5[0-9][0-9]$' "$DIR/results")
+echo "$total transfers, $succeeded succeeded, $server_errors server errors"
+awk -v s="$start" -v e="$end" -v n="$total" 'BEGIN { printf "%.2fs, %.0f transfers/s\n", e - s, n / (e - s) }'
+grep -o '"errorCode":"[A-Z_]*"' "$DIR/results" | sort | uniq -c
+
+# 4. 성공한 이체로 계산한 잔액과 실제 잔액 비교
+sed -n 's/.*"fromAccountNumber":"\([0-9]*\)","toAccountNumber":"\([0-9]*\)".*"amount":\([0-9]*\).* 200$/\1 \2 \3/p' \
+  "$DIR/results" > "$DIR/succeeded"
+cut -d' ' -f1 "$DIR/accounts" | sort -u | while read -r user; do
+  curl -sf "$BASE_URL/account?user_id=$user" \
+    | grep -o '"accountNumber":"[0-9]*","balance":[0-9]*' \
+    | sed 's/"accountNumber":"\([0-9]*\)","balance":\([0-9]*\)/\1 \2/'
+done > "$DIR/balances"
+
+awk -v initial="$INITIAL_BALANCE" '
+  FILENAME == ARGV[1] { expected[$2] = initial; next }
+  FILENAME == ARGV[2] { expected[$1] -= $3; expected[$2] += $3; next }
+  ($1 in expected) {
+    checked++
+    if ($2 != expected[$1]) { printf "lost update: %s expected %d, actual %d\n", $1, expected[$1], $2; mismatched++ }
+  }
+  END {
+    printf "%d accounts checked, %d mismatched\n", checked, mismatched
+    exit (mismatched > 0)
+  }' "$DIR/accounts" "$DIR/succeeded" "$DIR/balances" || exit 1
+[ "$server_errors" -eq 0 ] || { echo "server errors found (see $DIR/results)"; exit 1; }
@@ -0,0 +1,31 @@
+#!/usr/bin/env sh
+# JVM 빌드와 native image 의 시작 시간(첫 요청까지)과 RSS 비교
+# 사용법: ./gradlew bootJar nativeCompile && sh src/test/native/startup-smoke.sh
+# 운영 프로파일로 실행하므로 127.0.0.1:6379 에 Redis, 127.0.0.1:5432 에 PostgreSQL(ACCOUNT_DB_* 환경 변수로 변경 가능)이 떠 있어야 한다.
+
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+NATIVE=build/native/nativeCompile/account
+PORT=${PORT:-18080}
+
+measure() {
+  name=$1
+  shift
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" --spring.profiles.active=prod > "build/$name-smoke.log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name: failed to start, see build/$name-smoke.log"
+      return 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+  echo "$name: time-to-first-request $(( (end - start) / 1000000 )) ms, RSS $(( rss / 1024 )) MB"
+  kill "$pid"
+  wait "$pid" 2> /dev/null
+}
+
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"